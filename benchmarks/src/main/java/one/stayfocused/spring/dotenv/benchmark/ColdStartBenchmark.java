@@ -0,0 +1,107 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first start of a minimal application in a fresh JVM, up to its {@code ApplicationReadyEvent}.
+ * <p>
+ * Every fork starts the application exactly once, so class loading and the interpreter are part of the
+ * measurement, as they are for a real application; the start of the JVM itself is not. The time covers
+ * {@code SpringApplication.run}, which returns once the {@code ApplicationReadyEvent} listeners, including
+ * the {@code DotenvLogger}, have run. Closing the context is not measured.
+ * </p>
+ * <p>
+ * The {@code .env} file has the given number of lines, nine in ten of which define a variable, or does
+ * not exist with {@code missing}. Run it through {@link StartupHarness} to also record allocated bytes
+ * and compare the results with a baseline.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+    @Param({"0", "100", "10000", "100000", "missing"})
+    String lines;
+
+    @Param({"low", "high"})
+    String priority;
+
+    private Path file;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if ("missing".equals(lines)) {
+            Path directory = Files.createTempDirectory("dotenv-benchmark-");
+            directory.toFile().deleteOnExit();
+            file = directory.resolve(".env");
+        } else {
+            file = SyntheticDotenv.write(Integer.parseInt(lines));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Starts the application and leaves it running until the invocation is torn down.
+     *
+     * @return the started context
+     */
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        SpringApplication application = new SpringApplication(MinimalApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setBannerMode(Banner.Mode.OFF);
+        application.setLogStartupInfo(false);
+        context = application.run("--dotenv.path=" + file, "--dotenv.priority=" + priority,
+                "--logging.level.root=warn", "--logging.level.one.stayfocused.spring.dotenv=info");
+        return context;
+    }
+
+    /**
+     * Minimal application picking up the dotenv auto-configuration.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    public static class MinimalApplication {
+    }
+}
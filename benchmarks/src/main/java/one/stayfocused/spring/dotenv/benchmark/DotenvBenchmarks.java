@@ -0,0 +1,61 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Accepts the regular JMH command line options and writes results as JSON to
+ * {@code target/jmh-result.json} unless a result format is given explicitly,
+ * so runs of different versions can be compared with any JMH result viewer.
+ * </p>
+ */
+public final class DotenvBenchmarks {
+
+    /** Default location of the JSON result file. */
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private DotenvBenchmarks() {
+        throw new UnsupportedOperationException("DotenvBenchmarks is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws CommandLineOptionException if the options cannot be parsed
+     * @throws IOException if the result directory cannot be created
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+            if (!commandLine.getResult().hasValue()) {
+                Files.createDirectories(Path.of(DEFAULT_RESULT_FILE).getParent());
+                options.result(DEFAULT_RESULT_FILE);
+            }
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.IncrementalEnvParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reparsing a synthetic {@code .env} file after one of its variables changed, as on a reload.
+ * <p>
+ * Before every invocation the file is rewritten with the value of the middle variable toggled, so each
+ * parse sees a single-line edit. Writing the file is not part of the measurement.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementalParserBenchmark {
+
+    @Param({"1000", "100000"})
+    int lines;
+
+    private final DotenvParser parser = new DotenvParser(null, Long.MAX_VALUE);
+
+    private final IncrementalEnvParser incrementalParser = new IncrementalEnvParser(parser, null);
+
+    private Path file;
+
+    private byte[] original;
+
+    private byte[] edited;
+
+    private boolean toggle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = SyntheticDotenv.write(lines);
+        original = Files.readAllBytes(file);
+        List<String> content = SyntheticDotenv.lines(lines);
+        int middle = lines / 2 - lines / 2 % 10;
+        content.set(middle, SyntheticDotenv.key(middle) + "=edited");
+        edited = String.join(System.lineSeparator(), content).concat(System.lineSeparator()).getBytes();
+        incrementalParser.parse(file);
+    }
+
+    @Setup(Level.Invocation)
+    public void edit() throws IOException {
+        toggle = !toggle;
+        Files.write(file, toggle ? edited : original);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Parses the edited file as a whole.
+     *
+     * @return the parsed variables
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map<String, String> fullReparse() throws IOException {
+        return parser.parse(file);
+    }
+
+    /**
+     * Parses only the changed line of the edited file, reusing the other lines from the previous parse.
+     *
+     * @return the parsed variables
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map<String, String> incrementalReparse() throws IOException {
+        return incrementalParser.parse(file);
+    }
+}
@@ -0,0 +1,149 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.SnapshotEnvParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.DOTENV_PATH_KEY;
+
+/**
+ * Measures parsing and loading of synthetic {@code .env} files of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000", "250000"})
+    int lines;
+
+    private final DotenvParser parser = new DotenvParser();
+
+    private final DotenvParser sequentialParser = new DotenvParser(null, Long.MAX_VALUE);
+
+    private Path file;
+
+    private Path snapshotDirectory;
+
+    private SnapshotEnvParser snapshotParser;
+
+    private List<String> content;
+
+    private StandardEnvironment environment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = SyntheticDotenv.write(lines);
+        // Snapshots of recently modified files are not trusted, so the file is backdated
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        content = Files.readAllLines(file);
+        snapshotDirectory = Files.createTempDirectory("dotenv-snapshots");
+        snapshotParser = new SnapshotEnvParser(parser, snapshotDirectory);
+        snapshotParser.parse(file);
+        environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of(DOTENV_PATH_KEY, file.toString())));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        try (Stream<Path> snapshots = Files.list(snapshotDirectory)) {
+            for (Path snapshot : snapshots.toList()) {
+                Files.delete(snapshot);
+            }
+        }
+        Files.delete(snapshotDirectory);
+    }
+
+    /**
+     * Parses lines that are already in memory through the {@code EnvParser.parse(List)} contract.
+     *
+     * @return the parsed variables
+     */
+    @Benchmark
+    public Map<String, String> parseLines() {
+        return parser.parse(content);
+    }
+
+    /**
+     * Parses the file straight from disk.
+     *
+     * @return the parsed variables
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map<String, String> parseFile() throws IOException {
+        return parser.parse(file);
+    }
+
+    /**
+     * Parses the file straight from disk on the calling thread only, whatever its size.
+     *
+     * @return the parsed variables
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map<String, String> parseFileSequential() throws IOException {
+        return sequentialParser.parse(file);
+    }
+
+    /**
+     * Restores the variables from the binary snapshot of the unchanged file, as with {@code dotenv.snapshot=true}.
+     *
+     * @return the restored variables
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map<String, String> parseFileFromSnapshot() throws IOException {
+        return snapshotParser.parse(file);
+    }
+
+    /**
+     * Reads the file line by line and parses the lines, as {@code EnvParser.parse(Path)} does by default.
+     *
+     * @return the parsed variables
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map<String, String> parseFileAsLines() throws IOException {
+        return parser.parse(Files.readAllLines(file));
+    }
+
+    /**
+     * Resolves the settings from a Spring environment, then reads and parses the file.
+     *
+     * @return the loaded variables
+     */
+    @Benchmark
+    public Map<String, String> load() {
+        return DotenvLoader.load(environment);
+    }
+}
@@ -0,0 +1,95 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+
+/**
+ * Measures {@link DotenvPropertySource#getProperty(String)} for present and absent keys,
+ * both on a single thread and with several threads reading the same source concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertySourceBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({"100", "10000"})
+    int variables;
+
+    private DotenvPropertySource propertySource;
+
+    private String[] hits;
+
+    private String[] misses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        propertySource = new DotenvPropertySource(PROPERTY_SOURCE_NAME,
+                new HashMap<>(new DotenvParser().parse(SyntheticDotenv.lines(variables))));
+        hits = new String[KEYS];
+        misses = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            // Every tenth line of the synthetic file is a comment, so pick keys that are defined
+            int index = (i * 7919) % variables;
+            hits[i] = SyntheticDotenv.key(index % 10 == 9 ? index - 1 : index);
+            misses[i] = "spring.datasource.hikari.property-" + i;
+        }
+    }
+
+    /**
+     * Per-thread position in the key arrays, so concurrent readers do not share a counter.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next() {
+            return position++ & (KEYS - 1);
+        }
+    }
+
+    @Benchmark
+    public Object hit(Cursor cursor) {
+        return propertySource.getProperty(hits[cursor.next()]);
+    }
+
+    @Benchmark
+    public Object miss(Cursor cursor) {
+        return propertySource.getProperty(misses[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object hitContended(Cursor cursor) {
+        return propertySource.getProperty(hits[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object missContended(Cursor cursor) {
+        return propertySource.getProperty(misses[cursor.next()]);
+    }
+}
@@ -0,0 +1,101 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup of a minimal application using the explicit beans of the auto-configuration with
+ * one that additionally scans the library's packages, as the auto-configuration used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StartupBenchmark {
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = SyntheticDotenv.write(100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Starts and closes an application relying on the auto-configuration alone.
+     *
+     * @return the number of beans of the started context
+     */
+    @Benchmark
+    public int explicitBeans() {
+        return start(MinimalApplication.class);
+    }
+
+    /**
+     * Starts and closes an application that also scans the library's packages for components.
+     *
+     * @return the number of beans of the started context
+     */
+    @Benchmark
+    public int componentScan() {
+        return start(ScanningApplication.class);
+    }
+
+    private int start(Class<?> applicationClass) {
+        SpringApplication application = new SpringApplication(applicationClass);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setBannerMode(Banner.Mode.OFF);
+        application.setLogStartupInfo(false);
+        try (ConfigurableApplicationContext context = application.run(
+                "--dotenv.path=" + file, "--logging.level.root=warn")) {
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    /**
+     * Minimal application picking up the dotenv auto-configuration.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    public static class MinimalApplication {
+    }
+
+    /**
+     * Minimal application scanning the library's packages, except the benchmarks themselves.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = "one.stayfocused.spring.dotenv", excludeFilters = @ComponentScan.Filter(
+            type = FilterType.REGEX, pattern = "one\\.stayfocused\\.spring\\.dotenv\\.benchmark\\..*"))
+    public static class ScanningApplication {
+    }
+}
@@ -0,0 +1,199 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import org.apache.commons.math3.stat.StatUtils;
+import org.apache.commons.math3.stat.inference.TTest;
+import org.springframework.boot.json.JsonParserFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, benchmark by benchmark and metric by metric.
+ * <p>
+ * Every measured value of a fork is one sample. The samples of both runs are compared with Welch's
+ * t-test, which does not assume equal variances, and a difference counts as significant below a p-value
+ * of {@value #SIGNIFICANCE}. Lower values are better for both the time and the allocated bytes.
+ * Benchmarks or metrics present in only one of the files are skipped.
+ * </p>
+ */
+final class StartupComparison {
+
+    /** Name of the metric holding the bytes allocated per operation, as recorded by the GC profiler. */
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /** P-value below which a difference is reported as significant. */
+    static final double SIGNIFICANCE = 0.05;
+
+    private static final String TIME_METRIC = "time";
+
+    private StartupComparison() {
+        throw new UnsupportedOperationException("StartupComparison is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Compares the results of a run with those of a baseline run.
+     *
+     * @param baseline the JSON result file of the baseline run
+     * @param current  the JSON result file of the current run
+     * @return one row per benchmark, parameter combination and metric found in both files
+     * @throws IOException if a file cannot be read
+     */
+    static List<Row> compare(Path baseline, Path current) throws IOException {
+        Map<String, Map<String, Samples>> baselineResults = read(baseline);
+        List<Row> rows = new ArrayList<>();
+        read(current).forEach((benchmark, metrics) -> {
+            Map<String, Samples> baselineMetrics = baselineResults.get(benchmark);
+            if (baselineMetrics == null) {
+                return;
+            }
+            metrics.forEach((metric, samples) -> {
+                Samples baselineSamples = baselineMetrics.get(metric);
+                if (baselineSamples != null) {
+                    rows.add(new Row(benchmark, metric, samples.unit(), baselineSamples.values(), samples.values()));
+                }
+            });
+        });
+        return rows;
+    }
+
+    /**
+     * Prints the rows as a table.
+     *
+     * @param rows the compared rows
+     * @param out  the stream to print to
+     */
+    static void print(List<Row> rows, PrintStream out) {
+        String format = "%-50s %-18s %22s %22s %8s %8s  %s%n";
+        out.printf(format, "Benchmark", "Metric", "Baseline", "Current", "Change", "p-value", "Verdict");
+        for (Row row : rows) {
+            out.printf(format, row.benchmark(), row.metric(),
+                    String.format("%.3f %s", row.baselineMean(), row.unit()),
+                    String.format("%.3f %s", row.currentMean(), row.unit()),
+                    String.format("%+.1f%%", row.change() * 100), String.format("%.3f", row.pValue()), row.verdict());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Samples>> read(Path file) throws IOException {
+        Map<String, Map<String, Samples>> results = new LinkedHashMap<>();
+        for (Object entry : JsonParserFactory.getJsonParser().parseList(compact(Files.readString(file)))) {
+            Map<String, Object> result = (Map<String, Object>) entry;
+            Map<String, Samples> metrics = new LinkedHashMap<>();
+            metrics.put(TIME_METRIC, samples((Map<String, Object>) result.get("primaryMetric")));
+            Map<String, Object> secondary = (Map<String, Object>) result.get("secondaryMetrics");
+            if (secondary != null && secondary.containsKey(ALLOCATION_METRIC)) {
+                metrics.put(ALLOCATION_METRIC, samples((Map<String, Object>) secondary.get(ALLOCATION_METRIC)));
+            }
+            results.put(name(result), metrics);
+        }
+        return results;
+    }
+
+    /**
+     * Removes the whitespace outside of strings, since the basic JSON parser reads indented nested arrays
+     * as strings.
+     */
+    private static String compact(String json) {
+        StringBuilder builder = new StringBuilder(json.length());
+        boolean inString = false;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                builder.append(c);
+                if (c == '\\' && i + 1 < json.length()) {
+                    builder.append(json.charAt(++i));
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(c);
+                inString = c == '"';
+            }
+        }
+        return builder.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String name(Map<String, Object> result) {
+        String benchmark = (String) result.get("benchmark");
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        Map<String, Object> params = (Map<String, Object>) result.get("params");
+        if (params == null || params.isEmpty()) {
+            return name;
+        }
+        StringBuilder builder = new StringBuilder(name).append(' ');
+        new TreeMap<>(params).forEach((key, value) -> builder.append(key).append('=').append(value).append(','));
+        return builder.substring(0, builder.length() - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Samples samples(Map<String, Object> metric) {
+        List<Double> values = new ArrayList<>();
+        for (Object fork : (List<Object>) metric.get("rawData")) {
+            for (Object value : (List<Object>) fork) {
+                values.add(Double.parseDouble(String.valueOf(value)));
+            }
+        }
+        return new Samples((String) metric.get("scoreUnit"), values.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    private record Samples(String unit, double[] values) {
+    }
+
+    /**
+     * Comparison of one metric of one benchmark between the baseline and the current run.
+     *
+     * @param benchmark the benchmark name and parameters
+     * @param metric    the metric name
+     * @param unit      the unit of the metric
+     * @param baseline  the samples of the baseline run
+     * @param current   the samples of the current run
+     */
+    record Row(String benchmark, String metric, String unit, double[] baseline, double[] current) {
+
+        double baselineMean() {
+            return StatUtils.mean(baseline);
+        }
+
+        double currentMean() {
+            return StatUtils.mean(current);
+        }
+
+        double change() {
+            return (currentMean() - baselineMean()) / baselineMean();
+        }
+
+        /**
+         * Returns the p-value of Welch's t-test, or {@code NaN} if either run has fewer than two samples
+         * or neither varies.
+         */
+        double pValue() {
+            if (baseline.length < 2 || current.length < 2) {
+                return Double.NaN;
+            }
+            return new TTest().tTest(baseline, current);
+        }
+
+        boolean isRegression() {
+            return pValue() < SIGNIFICANCE && currentMean() > baselineMean();
+        }
+
+        String verdict() {
+            double pValue = pValue();
+            if (Double.isNaN(pValue)) {
+                return baselineMean() == currentMean() ? "unchanged" : "inconclusive";
+            }
+            if (pValue >= SIGNIFICANCE) {
+                return "no significant change";
+            }
+            return currentMean() > baselineMean() ? "REGRESSION" : "improvement";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the {@link ColdStartBenchmark} and compares its results with those of a stored baseline run.
+ * <p>
+ * Besides the regular JMH command line options, accepts {@code --baseline <file>} with the JSON result
+ * file of an earlier run, and {@code --fail-on-regression} to exit with status 1 when a benchmark got
+ * significantly slower or allocates significantly more, see {@link StartupComparison}. Allocated bytes
+ * are recorded with the GC profiler, and results are always written as JSON, to
+ * {@code target/startup-result.json} unless another file is given with {@code -rff}. A result file can
+ * be kept as the baseline of later runs.
+ * </p>
+ */
+public final class StartupHarness {
+
+    /** Default location of the JSON result file. */
+    static final String DEFAULT_RESULT_FILE = "target/startup-result.json";
+
+    private StartupHarness() {
+        throw new UnsupportedOperationException("StartupHarness is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Runs the startup benchmarks.
+     *
+     * @param args JMH command line options, {@code --baseline <file>} and {@code --fail-on-regression}
+     * @throws CommandLineOptionException if the options cannot be parsed
+     * @throws IOException if the result or baseline file cannot be accessed
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        Path baseline = null;
+        boolean failOnRegression = false;
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> {
+                    if (i + 1 == args.length) {
+                        throw new IllegalArgumentException("[Dotenv] Missing file after --baseline");
+                    }
+                    baseline = Path.of(args[++i]);
+                }
+                case "--fail-on-regression" -> failOnRegression = true;
+                default -> jmhArgs.add(args[i]);
+            }
+        }
+        if (baseline != null && !Files.isRegularFile(baseline)) {
+            throw new IllegalArgumentException("[Dotenv] Baseline file not found: " + baseline);
+        }
+
+        CommandLineOptions commandLine = new CommandLineOptions(jmhArgs.toArray(String[]::new));
+        if (commandLine.shouldHelp()) {
+            System.out.println("Usage: StartupHarness [--baseline <file>] [--fail-on-regression] [JMH options]");
+            commandLine.showHelp();
+            return;
+        }
+        Path result = Path.of(commandLine.getResult().orElse(DEFAULT_RESULT_FILE)).toAbsolutePath();
+        Files.createDirectories(result.getParent());
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString());
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(ColdStartBenchmark.class.getSimpleName());
+        }
+        new Runner(options.build()).run();
+
+        if (baseline != null) {
+            List<StartupComparison.Row> rows = StartupComparison.compare(baseline, result);
+            System.out.println();
+            System.out.println("Comparison with " + baseline + ":");
+            StartupComparison.print(rows, System.out);
+            if (failOnRegression && rows.stream().anyMatch(StartupComparison.Row::isRegression)) {
+                System.exit(1);
+            }
+        }
+    }
+}
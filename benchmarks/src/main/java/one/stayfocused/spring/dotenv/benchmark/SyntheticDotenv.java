@@ -0,0 +1,67 @@
+package one.stayfocused.spring.dotenv.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates reproducible synthetic {@code .env} content for benchmarks.
+ * <p>
+ * Roughly one line in ten is a comment or blank line, and values alternate between
+ * plain, double-quoted and single-quoted forms, so the parser exercises all of its branches.
+ * </p>
+ */
+final class SyntheticDotenv {
+
+    private SyntheticDotenv() {
+        throw new UnsupportedOperationException("SyntheticDotenv is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Returns the key of the variable defined at the given index.
+     *
+     * @param index the variable index
+     * @return the variable key
+     */
+    static String key(int index) {
+        return "BENCHMARK_VARIABLE_" + index;
+    }
+
+    /**
+     * Generates the given number of {@code .env} lines.
+     *
+     * @param count the number of lines
+     * @return the generated lines
+     */
+    static List<String> lines(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 10 == 9) {
+                lines.add(i % 20 == 19 ? "" : "# section " + i);
+                continue;
+            }
+            String value = "jdbc:postgresql://db-" + i + ".internal:5432/app?user=service_" + i;
+            lines.add(switch (i % 3) {
+                case 0 -> key(i) + "=" + value;
+                case 1 -> key(i) + "=\"" + value + "\"";
+                default -> key(i) + " = '" + value + "'";
+            });
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the given number of {@code .env} lines to a new temporary file.
+     *
+     * @param count the number of lines
+     * @return the path of the temporary file
+     * @throws IOException if the file cannot be written
+     */
+    static Path write(int count) throws IOException {
+        Path file = Files.createTempFile("dotenv-benchmark-", ".env");
+        file.toFile().deleteOnExit();
+        return Files.write(file, lines(count));
+    }
+}
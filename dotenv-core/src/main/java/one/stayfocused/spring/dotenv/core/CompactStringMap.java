@@ -0,0 +1,407 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable, compact {@link Map} of strings built once and optimized for lookups.
+ * <p>
+ * Keys and values live in two dense arrays, next to an array of precomputed key hashes. An
+ * open-addressing table with linear probing and a load factor of at most one half maps hashes to
+ * entry indexes, so a lookup touches a few adjacent {@code int}s instead of chasing
+ * {@code HashMap} nodes. Keys are interned, which shares them with constant strings used for lookups
+ * and lets most hits succeed on an identity comparison. Iteration follows the order of the source map.
+ * </p>
+ * <p>
+ * A map created through {@link #offHeapCopyOf(Map)} keeps its values outside the heap, as UTF-16 code units
+ * in a single direct buffer indexed by offset. Only keys and offsets are on the heap; each value is
+ * materialized as a new string whenever it is read, and {@link #zeroValues()} overwrites the buffer
+ * before the map is dropped.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class CompactStringMap extends AbstractMap<String, String> {
+
+    private static final int OBJECT_HEADER = 12;
+
+    private static final CompactStringMap EMPTY = new CompactStringMap(Map.of());
+
+    private final String[] keys;
+
+    /** Values on the heap, or {@code null} when they are stored in {@link #offHeapValues}. */
+    private final String[] values;
+
+    private final CharBuffer offHeapValues;
+
+    /** Start of every value in {@link #offHeapValues}, followed by the end of the last one. */
+    private final int[] valueOffsets;
+
+    private final int[] hashes;
+
+    /** Entry index plus one for every slot, zero for empty slots. */
+    private final int[] table;
+
+    private final int mask;
+
+    private volatile boolean zeroed;
+
+    private Set<Entry<String, String>> entrySet;
+
+    private CompactStringMap(Map<String, String> source) {
+        this(source, false);
+    }
+
+    private CompactStringMap(Map<String, String> source, boolean offHeap) {
+        int size = source.size();
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+
+        keys = new String[size];
+        values = offHeap ? null : new String[size];
+        valueOffsets = offHeap ? new int[size + 1] : null;
+        hashes = new int[size];
+        table = new int[capacity];
+        mask = capacity - 1;
+
+        long length = 0;
+        int index = 0;
+        for (Map.Entry<String, String> entry : source.entrySet()) {
+            String key = Objects.requireNonNull(entry.getKey(), "key must not be null").intern();
+            String value = Objects.requireNonNull(entry.getValue(), "value must not be null");
+            int hash = hash(key);
+            keys[index] = key;
+            if (offHeap) {
+                valueOffsets[index] = (int) length;
+                length += value.length();
+                if (length > Integer.MAX_VALUE / 2) {
+                    throw new IllegalArgumentException("[Dotenv] Values are too large to be stored off the heap");
+                }
+            } else {
+                values[index] = value;
+            }
+            hashes[index] = hash;
+
+            int slot = hash & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = ++index;
+        }
+
+        if (offHeap) {
+            valueOffsets[size] = (int) length;
+            offHeapValues = ByteBuffer.allocateDirect((int) length * 2).asCharBuffer();
+            // Values follow the iteration order their offsets were assigned in
+            for (String value : source.values()) {
+                offHeapValues.put(value);
+            }
+        } else {
+            offHeapValues = null;
+        }
+    }
+
+    /**
+     * Returns an immutable compact copy of the given map.
+     *
+     * @param source the map to copy, without {@code null} keys or values
+     * @return the compact map, or {@code source} itself if it already is one
+     */
+    public static CompactStringMap copyOf(Map<String, String> source) {
+        if (source instanceof CompactStringMap compact) {
+            return compact;
+        }
+        return source.isEmpty() ? EMPTY : new CompactStringMap(source);
+    }
+
+    /**
+     * Returns an immutable compact copy of the given map whose values are stored off the heap.
+     *
+     * @param source the map to copy, without {@code null} keys or values
+     * @return the compact map, always a new one unless {@code source} is empty
+     * @throws IllegalArgumentException if the values hold more than {@code Integer.MAX_VALUE / 2} characters
+     */
+    public static CompactStringMap offHeapCopyOf(Map<String, String> source) {
+        return source.isEmpty() ? EMPTY : new CompactStringMap(source, true);
+    }
+
+    /**
+     * Returns the position of the given key in iteration order.
+     *
+     * @param key the key to look up
+     * @return the index of the entry, or {@code -1} if the key is not present
+     */
+    public int indexOf(Object key) {
+        if (!(key instanceof String string)) {
+            return -1;
+        }
+        int hash = hash(string);
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int index = entry - 1;
+            String candidate = keys[index];
+            if (candidate == string || (hashes[index] == hash && candidate.equals(string))) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the key at the given position in iteration order.
+     *
+     * @param index the index of the entry, as returned by {@link #indexOf(Object)}
+     * @return the key
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range
+     */
+    public String keyAt(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the value at the given position in iteration order.
+     *
+     * @param index the index of the entry, as returned by {@link #indexOf(Object)}
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException          if the off-heap values were zeroed
+     */
+    public String valueAt(int index) {
+        if (values != null) {
+            return values[index];
+        }
+        int offset = valueOffsets[index];
+        char[] chars = new char[valueOffsets[index + 1] - offset];
+        offHeapValues.get(offset, chars);
+        checkNotZeroed();
+        return new String(chars);
+    }
+
+    /**
+     * Checks whether the value at the given position equals the given string, without materializing
+     * an off-heap value.
+     *
+     * @param index the index of the entry, as returned by {@link #indexOf(Object)}
+     * @param value the string to compare with
+     * @return {@code true} if the value has the same characters
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range
+     */
+    public boolean valueEquals(int index, String value) {
+        if (values != null) {
+            String candidate = values[index];
+            return candidate == value || candidate.equals(value);
+        }
+        int offset = valueOffsets[index];
+        if (valueOffsets[index + 1] - offset != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (offHeapValues.get(offset + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the {@link String#hashCode()} of the value at the given position, without materializing
+     * an off-heap value.
+     *
+     * @param index the index of the entry, as returned by {@link #indexOf(Object)}
+     * @return the hash code of the value
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range
+     */
+    public int valueHashCode(int index) {
+        if (values != null) {
+            return values[index].hashCode();
+        }
+        int hash = 0;
+        for (int i = valueOffsets[index]; i < valueOffsets[index + 1]; i++) {
+            hash = 31 * hash + offHeapValues.get(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Checks whether the values of this map are stored off the heap.
+     *
+     * @return {@code true} if the map was created through {@link #offHeapCopyOf(Map)}
+     */
+    public boolean isOffHeap() {
+        return values == null;
+    }
+
+    /**
+     * Overwrites the off-heap values with zeros. Reading a value afterwards fails, while keys remain
+     * available. Does nothing for values on the heap, which cannot be cleared.
+     * <p>
+     * A reader racing with this method may observe a partially zeroed value, so callers zero the values
+     * only once no reader uses the map any longer.
+     * </p>
+     */
+    public void zeroValues() {
+        if (values == null && !zeroed) {
+            zeroed = true;
+            for (int i = 0; i < offHeapValues.capacity(); i++) {
+                offHeapValues.put(i, '\0');
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes of direct memory holding the values.
+     *
+     * @return the size of the off-heap buffer, or {@code 0} if the values are on the heap
+     */
+    public long offHeapBytes() {
+        return values == null ? offHeapValues.capacity() * 2L : 0;
+    }
+
+    /**
+     * Estimates the heap retained by this map, including its keys and values.
+     * <p>
+     * Assumes a 64-bit JVM with compressed references and compact strings. Keys shared with
+     * other interned strings are counted as if they were retained by this map alone. Values stored
+     * off the heap are not counted, see {@link #offHeapBytes()}.
+     * </p>
+     *
+     * @return the approximate size in bytes
+     */
+    public long estimateRetainedBytes() {
+        // Nine reference, int or boolean fields, one or two reference arrays and two or three int arrays
+        long bytes = align(OBJECT_HEADER + 9L * 4)
+                + array(keys.length * 4L) + array(hashes.length * 4L) + array(table.length * 4L);
+        if (values == null) {
+            // The buffer object and its char view, without their direct memory
+            bytes += array(valueOffsets.length * 4L) + 2 * align(OBJECT_HEADER + 48);
+        } else {
+            bytes += array(values.length * 4L);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            bytes += string(keys[i]) + (values != null ? string(values[i]) : 0);
+        }
+        return bytes;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], valueAt(i));
+        }
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        Set<Entry<String, String>> entries = entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+    private void checkNotZeroed() {
+        if (zeroed) {
+            throw new IllegalStateException("[Dotenv] Values were zeroed and can no longer be read");
+        }
+    }
+
+    private static long string(String value) {
+        long length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                length *= 2;
+                break;
+            }
+        }
+        // Value reference, cached hash, coder and hash flag, then the backing byte array
+        return align(OBJECT_HEADER + 10) + array(length);
+    }
+
+    private static long array(long payload) {
+        return align(OBJECT_HEADER + 4 + payload);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static int hash(String key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            return new Iterator<>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (index >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], valueAt(index));
+                    index++;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            if (!(object instanceof Entry<?, ?> entry)) {
+                return false;
+            }
+            int index = indexOf(entry.getKey());
+            return index >= 0 && entry.getValue() instanceof String value && valueEquals(index, value);
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
+}
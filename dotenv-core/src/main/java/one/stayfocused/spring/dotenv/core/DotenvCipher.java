@@ -0,0 +1,54 @@
+package one.stayfocused.spring.dotenv.core;
+
+import one.stayfocused.spring.dotenv.exception.DotenvDecryptionException;
+
+/**
+ * Strategy for decrypting encrypted {@code .env} values written as {@code ENC(...)}.
+ * <p>
+ * Values are decrypted lazily, on the first lookup of the variable, and the result is cached until
+ * the variables are reloaded. Implementations must be thread-safe. Custom implementations are
+ * registered in {@code META-INF/spring.factories} under this interface's name and may declare a
+ * constructor taking the Spring {@code Environment}. Without one, {@link KeyfileDotenvCipher} is
+ * used when {@code dotenv.keyfile} is set.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public interface DotenvCipher {
+
+    /** Prefix marking an encrypted value. */
+    String PREFIX = "ENC(";
+
+    /** Suffix marking an encrypted value. */
+    String SUFFIX = ")";
+
+    /**
+     * Decrypts the text between {@code ENC(} and {@code )}.
+     *
+     * @param cipherText the encrypted text
+     * @return the plain value
+     * @throws DotenvDecryptionException if the text cannot be decrypted
+     */
+    String decrypt(String cipherText);
+
+    /**
+     * Checks whether a value is encrypted.
+     *
+     * @param value the raw value
+     * @return {@code true} if the value is written as {@code ENC(...)}
+     */
+    static boolean isEncrypted(String value) {
+        return value.length() > PREFIX.length() && value.startsWith(PREFIX) && value.endsWith(SUFFIX);
+    }
+
+    /**
+     * Extracts the encrypted text from a value written as {@code ENC(...)}.
+     *
+     * @param value the raw value
+     * @return the text between the prefix and the suffix
+     */
+    static String unwrap(String value) {
+        return value.substring(PREFIX.length(), value.length() - SUFFIX.length());
+    }
+}
@@ -0,0 +1,123 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Key-level difference between two sets of dotenv variables.
+ * <p>
+ * Keys are classified as added, removed or changed in a single pass over each set, so the cost
+ * is proportional to the number of variables, not to the number of beans they configure.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class DotenvDiff {
+
+    private static final DotenvDiff EMPTY = new DotenvDiff(Set.of(), Set.of(), Set.of());
+
+    private final Set<String> added;
+
+    private final Set<String> removed;
+
+    private final Set<String> changed;
+
+    /**
+     * Creates a new difference from already classified keys.
+     *
+     * @param added   the names of the variables that only exist in the new set
+     * @param removed the names of the variables that only exist in the old set
+     * @param changed the names of the variables whose value differs
+     */
+    public DotenvDiff(Set<String> added, Set<String> removed, Set<String> changed) {
+        this.added = Set.copyOf(added);
+        this.removed = Set.copyOf(removed);
+        this.changed = Set.copyOf(changed);
+    }
+
+    /**
+     * Computes the difference between two sets of variables.
+     *
+     * @param previous the old variables
+     * @param current  the new variables
+     * @return the difference, empty if both sets hold the same variables
+     */
+    public static DotenvDiff between(Map<String, String> previous, Map<String, String> current) {
+        Set<String> added = new HashSet<>();
+        Set<String> removed = new HashSet<>();
+        Set<String> changed = new HashSet<>();
+        previous.forEach((key, value) -> {
+            String next = current.get(key);
+            if (next == null && !current.containsKey(key)) {
+                removed.add(key);
+            } else if (!Objects.equals(value, next)) {
+                changed.add(key);
+            }
+        });
+        current.keySet().forEach(key -> {
+            if (!previous.containsKey(key)) added.add(key);
+        });
+        if (added.isEmpty() && removed.isEmpty() && changed.isEmpty()) {
+            return EMPTY;
+        }
+        return new DotenvDiff(added, removed, changed);
+    }
+
+    /**
+     * Returns the names of the variables that only exist in the new set.
+     *
+     * @return the added variable names
+     */
+    public Set<String> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the names of the variables that only exist in the old set.
+     *
+     * @return the removed variable names
+     */
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the names of the variables whose value differs between both sets.
+     *
+     * @return the changed variable names
+     */
+    public Set<String> getChanged() {
+        return changed;
+    }
+
+    /**
+     * Returns the names of all variables that were added, removed or changed.
+     *
+     * @return the affected variable names
+     */
+    public Set<String> getKeys() {
+        Set<String> keys = new HashSet<>(added.size() + removed.size() + changed.size());
+        keys.addAll(added);
+        keys.addAll(removed);
+        keys.addAll(changed);
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Checks whether both sets hold the same variables.
+     *
+     * @return {@code true} if no variable was added, removed or changed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "DotenvDiff{added=" + added + ", removed=" + removed + ", changed=" + changed + "}";
+    }
+}
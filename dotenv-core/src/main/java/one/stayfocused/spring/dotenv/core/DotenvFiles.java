@@ -0,0 +1,316 @@
+package one.stayfocused.spring.dotenv.core;
+
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utility class for loading environment variables from {@code .env} files without any framework.
+ * <p>
+ * Reads and parses the files, returning variables as a {@link Map}. When several files are given,
+ * they are read and parsed concurrently, and so are the files of config tree directories. This is the
+ * plain-Java loading API of the library, usable from command line tools and functions with nothing but
+ * this module on the classpath:
+ * </p>
+ * <pre>{@code
+ * Map<String, String> variables = DotenvFiles.load(".env", ".env.local");
+ * }</pre>
+ * <p>
+ * Not instantiable.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class DotenvFiles {
+
+    private static final System.Logger log = System.getLogger(DotenvFiles.class.getName());
+
+    /** Upper bound for the number of threads reading files concurrently. */
+    private static final int MAX_READER_THREADS = 8;
+
+    private static final AtomicInteger READER_THREAD_COUNT = new AtomicInteger();
+
+    private static final ThreadFactory READER_THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "dotenv-reader-" + READER_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted
+     */
+    private DotenvFiles() {
+        throw new UnsupportedOperationException("DotenvFiles is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Loads and merges the given {@code .env} files with a default {@link DotenvParser}.
+     * <p>
+     * Later files override earlier ones. Missing files are reported in the log and skipped.
+     * </p>
+     *
+     * @param paths the paths to the {@code .env} files, from lowest to highest precedence
+     * @return a map of environment variables
+     * @throws DotenvParseException if a file cannot be read
+     */
+    public static Map<String, String> load(String... paths) {
+        List<DotenvLocation> locations = Arrays.stream(paths).map(DotenvLocation::of).toList();
+        return merge(loadLayers(locations, false, new DotenvParser()));
+    }
+
+    /**
+     * Loads and merges the given {@code .env} files, later files overriding earlier ones.
+     *
+     * @param locations the files to load, from lowest to highest precedence
+     * @param failOnMissing whether to throw an exception if a file that is not optional is missing
+     * @param parser the parser to use for the {@code .env} files
+     * @return a map of environment variables
+     * @throws DotenvFileNotFoundException if a file is missing and {@code failOnMissing} is true
+     */
+    public static Map<String, String> load(List<DotenvLocation> locations, boolean failOnMissing, EnvParser parser) {
+        return merge(loadLayers(locations, failOnMissing, parser));
+    }
+
+    /**
+     * Merges the variables of several files, later files overriding earlier ones.
+     *
+     * @param layers the variables of each file, from lowest to highest precedence
+     * @return the merged variables, or the variables of the only file as they are
+     */
+    public static Map<String, String> merge(Map<String, Map<String, String>> layers) {
+        if (layers.size() == 1) {
+            return layers.values().iterator().next();
+        }
+        Map<String, String> envVariables = new HashMap<>();
+        layers.values().forEach(envVariables::putAll);
+        return envVariables;
+    }
+
+    /**
+     * Reads and parses the given {@code .env} files concurrently.
+     * <p>
+     * Files that do not exist are left out of the result. Optional ones are skipped silently,
+     * the others are reported as in {@link #loadFromPath(String, boolean, EnvParser)}.
+     * </p>
+     *
+     * @param locations the files to load, from lowest to highest precedence
+     * @param failOnMissing whether to throw an exception if a file that is not optional is missing
+     * @param parser the parser to use for the {@code .env} files
+     * @return the variables of each existing file keyed by its path, in the order of the locations
+     * @throws DotenvFileNotFoundException if a file is missing and {@code failOnMissing} is true
+     */
+    public static Map<String, Map<String, String>> loadLayers(List<DotenvLocation> locations,
+                                                              boolean failOnMissing, EnvParser parser) {
+        List<Map<String, String>> loaded = readConcurrently(locations,
+                location -> loadLocation(location, failOnMissing, parser));
+
+        Map<String, Map<String, String>> layers = new LinkedHashMap<>();
+        for (int i = 0; i < locations.size(); i++) {
+            if (loaded.get(i) != null) {
+                layers.put(locations.get(i).getPath(), loaded.get(i));
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * Loads environment variables from a specific {@code .env} file path.
+     * <p>
+     * Returns an empty map if the file is missing and {@code failOnMissing} is disabled.
+     * </p>
+     *
+     * @param path the path to the {@code .env} file
+     * @param failOnMissing whether to throw an exception if the file is missing
+     * @param parser the parser to use for the {@code .env} file
+     * @return a map of parsed environment variables
+     * @throws DotenvFileNotFoundException if the file is missing and {@code failOnMissing} is true
+     */
+    public static Map<String, String> loadFromPath(String path, boolean failOnMissing, EnvParser parser) {
+        Path envPath = Paths.get(path);
+
+        if (!Files.exists(envPath)) {
+            log.log(Level.WARNING, "[Dotenv] .env file not found at: {0}", envPath);
+            if (failOnMissing) {
+                throw new DotenvFileNotFoundException(path);
+            }
+            return Collections.emptyMap();
+        }
+
+        try {
+            Map<String, String> envVariables = parser.parse(envPath);
+            log.log(Level.DEBUG, "[Dotenv] Successfully loaded {0} variables from {1}", envVariables.size(), envPath);
+            return envVariables;
+        } catch (IOException e) {
+            log.log(Level.ERROR, "[Dotenv] Failed to read .env file from {0}: {1}", envPath, e.getMessage());
+            throw new DotenvParseException("Failed to read .env file from " + envPath, e);
+        }
+    }
+
+    /**
+     * Loads a config tree: a directory holding one file per variable, as Kubernetes mounts secrets and config maps.
+     * <p>
+     * The path of every regular file relative to the directory, with separators replaced by dots, is the
+     * variable's name and its content, without a single trailing line break, is the value. Files and
+     * directories whose name starts with {@code ..} are skipped, which leaves out the timestamped
+     * directories Kubernetes uses for atomic updates while following the symbolic links into them.
+     * Files are read concurrently by a bounded pool of threads.
+     * </p>
+     *
+     * @param directory the directory to load
+     * @param failOnMissing whether to throw an exception if the directory is missing
+     * @return the variable of each file keyed by the file's path, ordered by path
+     * @throws DotenvFileNotFoundException if the directory is missing and {@code failOnMissing} is true
+     * @throws DotenvParseException if the directory cannot be listed or a file cannot be read
+     */
+    public static Map<String, Map<String, String>> loadConfigTree(String directory, boolean failOnMissing) {
+        Path root = Paths.get(directory);
+        if (!Files.isDirectory(root)) {
+            log.log(Level.WARNING, "[Dotenv] Config tree directory not found at: {0}", root);
+            if (failOnMissing) {
+                throw new DotenvFileNotFoundException(directory);
+            }
+            return Collections.emptyMap();
+        }
+
+        List<Path> files = listConfigTree(root);
+        List<String> values = readConcurrently(files, DotenvFiles::readConfigTreeValue);
+
+        Map<String, Map<String, String>> layers = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            String key = StreamSupport.stream(root.relativize(file).spliterator(), false)
+                    .map(Path::toString)
+                    .collect(Collectors.joining("."));
+            layers.put(file.toString(), Map.of(key, values.get(i)));
+        }
+        log.log(Level.DEBUG, "[Dotenv] Successfully loaded {0} variables from config tree {1}", layers.size(), root);
+        return layers;
+    }
+
+    private static List<Path> listConfigTree(Path root) {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    return !dir.equals(root) && isHidden(dir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && !isHidden(file)) files.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new DotenvParseException("Failed to list config tree " + root, e);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private static boolean isHidden(Path path) {
+        return path.getFileName().toString().startsWith("..");
+    }
+
+    private static String readConfigTreeValue(Path file) {
+        try {
+            String value = StandardCharsets.UTF_8.newDecoder()
+                    .decode(ByteBuffer.wrap(Files.readAllBytes(file)))
+                    .toString();
+            if (value.endsWith("\r\n")) return value.substring(0, value.length() - 2);
+            if (value.endsWith("\n")) return value.substring(0, value.length() - 1);
+            return value;
+        } catch (IOException e) {
+            throw new DotenvParseException("Failed to read config tree file " + file, e);
+        }
+    }
+
+    private static Map<String, String> loadLocation(DotenvLocation location, boolean failOnMissing, EnvParser parser) {
+        if (!Files.exists(Paths.get(location.getPath()))) {
+            if (location.isOptional()) {
+                log.log(Level.DEBUG, "[Dotenv] Optional .env file not found at: {0}", location.getPath());
+            } else {
+                loadFromPath(location.getPath(), failOnMissing, parser);
+            }
+            return null;
+        }
+        return loadFromPath(location.getPath(), failOnMissing, parser);
+    }
+
+    /**
+     * Applies the reader to every item, concurrently when there is more than one.
+     *
+     * @param items the items to read
+     * @param reader the function reading a single item
+     * @param <T> the type of the items
+     * @param <R> the type of the results
+     * @return the results in the order of the items
+     */
+    static <T, R> List<R> readConcurrently(List<T> items, Function<T, R> reader) {
+        if (items.size() < 2) {
+            return items.stream().map(reader).toList();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(items.size(), MAX_READER_THREADS), READER_THREAD_FACTORY);
+        try {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> reader.apply(item)));
+            }
+            List<R> results = new ArrayList<>(items.size());
+            for (Future<R> future : futures) {
+                results.add(await(future));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DotenvParseException("Interrupted while reading .env files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new DotenvParseException("Failed to read .env files", e.getCause());
+        }
+    }
+}
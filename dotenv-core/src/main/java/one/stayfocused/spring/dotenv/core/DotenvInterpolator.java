@@ -0,0 +1,191 @@
+package one.stayfocused.spring.dotenv.core;
+
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Utility class resolving {@code ${NAME}} references inside {@code .env} values at load time.
+ * <p>
+ * Every value containing references is compiled once into literal and reference segments. Values are
+ * then resolved in dependency order: a reference to another dotenv variable uses that variable's
+ * resolved value, any other reference is looked up through a fallback, usually the OS environment.
+ * A variable referencing itself, as in {@code PATH=${PATH}:/opt/bin}, always uses the fallback.
+ * References that cannot be resolved are kept verbatim, so Spring can still resolve them later
+ * against the rest of the {@code Environment}. Circular references are rejected.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class DotenvInterpolator {
+
+    private static final String PREFIX = "${";
+
+    private static final String SUFFIX = "}";
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted
+     */
+    private DotenvInterpolator() {
+        throw new UnsupportedOperationException("DotenvInterpolator is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Resolves the references inside the given values.
+     *
+     * @param values   the raw variables
+     * @param fallback lookup for names that are not dotenv variables, returning {@code null} if unknown
+     * @return the resolved variables, or {@code values} itself if no value contains a reference
+     * @throws DotenvParseException if variables reference each other in a cycle
+     */
+    public static Map<String, String> interpolate(Map<String, String> values, Function<String, String> fallback) {
+        Map<String, Template> templates = new HashMap<>();
+        values.forEach((key, value) -> {
+            if (value.contains(PREFIX)) {
+                Template template = Template.compile(value);
+                if (template != null) templates.put(key, template);
+            }
+        });
+        if (templates.isEmpty()) {
+            return values;
+        }
+
+        Resolver resolver = new Resolver(values, templates, fallback);
+        Map<String, String> resolved = new HashMap<>(values);
+        templates.keySet().forEach(key -> resolved.put(key, resolver.resolve(key)));
+        return resolved;
+    }
+
+    /**
+     * Resolves the references inside the merged variables of several files.
+     * <p>
+     * References are resolved against the merged variables, later files overriding earlier ones.
+     * </p>
+     *
+     * @param layers   the raw variables of each file, from lowest to highest precedence
+     * @param fallback lookup for names that are not dotenv variables, returning {@code null} if unknown
+     * @return the layers with resolved values, or {@code layers} itself if no value contains a reference
+     * @throws DotenvParseException if variables reference each other in a cycle
+     */
+    public static Map<String, Map<String, String>> interpolateLayers(Map<String, Map<String, String>> layers,
+                                                                     Function<String, String> fallback) {
+        Map<String, String> merged = new HashMap<>();
+        layers.values().forEach(merged::putAll);
+        Map<String, String> resolved = interpolate(merged, fallback);
+        if (resolved == merged) {
+            return layers;
+        }
+
+        // A raw value equal to the winning one resolves to the same string; shadowed values stay raw
+        Map<String, Map<String, String>> interpolated = new LinkedHashMap<>();
+        layers.forEach((location, layer) -> {
+            Map<String, String> values = new HashMap<>(layer);
+            values.replaceAll((key, value) -> Objects.equals(merged.get(key), value) ? resolved.get(key) : value);
+            interpolated.put(location, values);
+        });
+        return interpolated;
+    }
+
+    /**
+     * Value split into literal text and references: {@code literals[0] refs[0] literals[1] ... literals[n]}.
+     */
+    private static final class Template {
+
+        private final String[] literals;
+
+        private final String[] references;
+
+        private Template(String[] literals, String[] references) {
+            this.literals = literals;
+            this.references = references;
+        }
+
+        private static Template compile(String value) {
+            List<String> literals = new ArrayList<>();
+            List<String> references = new ArrayList<>();
+            int literalStart = 0;
+            int start = value.indexOf(PREFIX);
+            while (start >= 0) {
+                int end = value.indexOf(SUFFIX, start + PREFIX.length());
+                if (end < 0) break;
+                literals.add(value.substring(literalStart, start));
+                references.add(value.substring(start + PREFIX.length(), end));
+                literalStart = end + SUFFIX.length();
+                start = value.indexOf(PREFIX, literalStart);
+            }
+            if (references.isEmpty()) {
+                return null;
+            }
+            literals.add(value.substring(literalStart));
+            return new Template(literals.toArray(new String[0]), references.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Depth-first resolution that memoizes final values and tracks the current reference chain.
+     */
+    private static final class Resolver {
+
+        private final Map<String, String> values;
+
+        private final Map<String, Template> templates;
+
+        private final Function<String, String> fallback;
+
+        private final Map<String, String> resolved = new HashMap<>();
+
+        private final Set<String> resolving = new LinkedHashSet<>();
+
+        private Resolver(Map<String, String> values, Map<String, Template> templates,
+                         Function<String, String> fallback) {
+            this.values = values;
+            this.templates = templates;
+            this.fallback = fallback;
+        }
+
+        private String resolve(String key) {
+            Template template = templates.get(key);
+            if (template == null) {
+                return values.get(key);
+            }
+            String value = resolved.get(key);
+            if (value != null) {
+                return value;
+            }
+            if (!resolving.add(key)) {
+                throw new DotenvParseException("[Dotenv] Circular variable reference: "
+                        + String.join(" -> ", resolving) + " -> " + key);
+            }
+
+            StringBuilder builder = new StringBuilder(template.literals[0]);
+            for (int i = 0; i < template.references.length; i++) {
+                String reference = template.references[i];
+                String replacement = !reference.equals(key) && values.containsKey(reference)
+                        ? resolve(reference)
+                        : fallback.apply(reference);
+                if (replacement == null) {
+                    builder.append(PREFIX).append(reference).append(SUFFIX);
+                } else {
+                    builder.append(replacement);
+                }
+                builder.append(template.literals[i + 1]);
+            }
+
+            resolving.remove(key);
+            value = builder.toString();
+            resolved.put(key, value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.util.Objects;
+
+/**
+ * Location of a single {@code .env} file to load.
+ * <p>
+ * Explicitly configured files honour {@code dotenv.fail-on-missing}. Optional files, such as the
+ * {@code .env.local} and {@code .env.{profile}} files derived in layered mode, are skipped silently
+ * when they do not exist.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class DotenvLocation {
+
+    private final String path;
+
+    private final boolean optional;
+
+    private DotenvLocation(String path, boolean optional) {
+        this.path = Objects.requireNonNull(path, "path must not be null");
+        this.optional = optional;
+    }
+
+    /**
+     * Creates the location of an explicitly configured file.
+     *
+     * @param path the path to the {@code .env} file
+     * @return the location
+     */
+    public static DotenvLocation of(String path) {
+        return new DotenvLocation(path, false);
+    }
+
+    /**
+     * Creates the location of a file that is skipped silently when it does not exist.
+     *
+     * @param path the path to the {@code .env} file
+     * @return the location
+     */
+    public static DotenvLocation optional(String path) {
+        return new DotenvLocation(path, true);
+    }
+
+    /**
+     * Returns the path to the {@code .env} file.
+     *
+     * @return the path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Checks whether the file is skipped silently when it does not exist.
+     *
+     * @return {@code true} if the file is optional
+     */
+    public boolean isOptional() {
+        return optional;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof DotenvLocation location
+                && path.equals(location.path) && optional == location.optional);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, optional);
+    }
+
+    @Override
+    public String toString() {
+        return optional ? "optional:" + path : path;
+    }
+}
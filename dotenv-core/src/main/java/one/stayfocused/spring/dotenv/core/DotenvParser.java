@@ -0,0 +1,414 @@
+package one.stayfocused.spring.dotenv.core;
+
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Default implementation of {@link EnvParser} for parsing {@code .env} files.
+ * <p>
+ * When created with {@link DotenvStatistics}, the parser records the bytes, lines and time spent
+ * reading and parsing every file.
+ * </p>
+ * <p>
+ * Content of at least the parallel threshold is split into chunks at line boundaries that are
+ * parsed on the common {@link ForkJoinPool} and merged in file order, so a later definition of a
+ * variable still overrides an earlier one. Since every value ends at its line break, any line
+ * boundary is a safe place to split.
+ * </p>
+ */
+public class DotenvParser implements EnvParser {
+
+    private static final System.Logger log = System.getLogger(DotenvParser.class.getName());
+
+    /** Default size in bytes from which content is parsed in parallel. */
+    public static final long DEFAULT_PARALLEL_THRESHOLD = 1024 * 1024;
+
+    /** Files of at least this many bytes are memory-mapped instead of being read into a heap buffer. */
+    private static final long MAPPING_THRESHOLD = 64 * 1024;
+
+    /** Chunks of parallel parsing are never split below this many bytes. */
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    private final DotenvStatistics statistics;
+
+    private final long parallelThreshold;
+
+    /**
+     * Constructs a new {@code DotenvParser}.
+     */
+    public DotenvParser() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new {@code DotenvParser} that records what it reads and parses.
+     *
+     * @param statistics the statistics to update, or {@code null} to record nothing
+     */
+    public DotenvParser(DotenvStatistics statistics) {
+        this(statistics, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new {@code DotenvParser} that parses large content in parallel.
+     *
+     * @param statistics        the statistics to update, or {@code null} to record nothing
+     * @param parallelThreshold the size in bytes from which content is parsed in parallel
+     */
+    public DotenvParser(DotenvStatistics statistics, long parallelThreshold) {
+        this.statistics = statistics;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Parses a list of lines from a {@code .env} file into key-value pairs.
+     * <p>
+     * Ignores empty lines and comments (lines starting with {@code #}).
+     * Expects lines in the format {@code KEY=VALUE}.
+     * </p>
+     *
+     * @param lines the lines to parse
+     * @return a map of key-value pairs
+     */
+    public Map<String, String> parse(List<String> lines) {
+        long start = System.nanoTime();
+        Map<String, String> envVariables = new HashMap<>();
+        for (String line : lines) {
+            parseLine(line, envVariables);
+        }
+        if (statistics != null) {
+            statistics.recordParse(lines.size(), System.nanoTime() - start);
+        }
+        return envVariables;
+    }
+
+    /**
+     * Parses a {@code .env} file in a single pass over its bytes.
+     * <p>
+     * Small files are read into a heap buffer, larger ones are memory-mapped. The result
+     * is identical to {@link #parse(List)} applied to {@code Files.readAllLines(path)}.
+     * </p>
+     *
+     * @param path the file to parse
+     * @return a map of key-value pairs
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public Map<String, String> parse(Path path) throws IOException {
+        long start = System.nanoTime();
+        ByteBuffer buffer = read(path);
+        if (statistics != null) {
+            // Mapped files are paged in lazily, so parsing accounts for most of their read time
+            statistics.recordRead(buffer.remaining(), System.nanoTime() - start);
+        }
+        return parse(buffer);
+    }
+
+    /**
+     * Reads a file into a heap buffer, or memory-maps it if it is large.
+     *
+     * @param path the file to read
+     * @return the buffer, positioned at the first byte
+     * @throws IOException if the file cannot be read
+     */
+    static ByteBuffer read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new DotenvParseException("File is too large to parse: " + path);
+            }
+            return size >= MAPPING_THRESHOLD
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : readFully(channel, (int) size);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded {@code .env} content between the buffer's position and limit.
+     * <p>
+     * Lines made of ASCII characters only are parsed directly from the bytes, allocating
+     * nothing but the key and the value. Any other line is decoded and handled like
+     * {@link #parse(List)} would. The buffer's position and limit are left untouched.
+     * Content of at least the parallel threshold is parsed in chunks on the common
+     * {@link ForkJoinPool}, with the same result.
+     * </p>
+     *
+     * @param buffer the bytes to parse
+     * @return a map of key-value pairs
+     * @throws DotenvParseException if the content is not valid UTF-8
+     */
+    public Map<String, String> parse(ByteBuffer buffer) {
+        long start = System.nanoTime();
+        Map<String, String> envVariables;
+        int lines;
+        int size = buffer.remaining();
+        if (size >= parallelThreshold && size >= 2 * MIN_CHUNK_SIZE) {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (4 * ForkJoinPool.getCommonPoolParallelism()));
+            ChunkResult result = ForkJoinPool.commonPool()
+                    .invoke(new ChunkTask(buffer, buffer.position(), buffer.limit(), chunkSize));
+            envVariables = result.envVariables;
+            lines = result.lines;
+        } else {
+            envVariables = new HashMap<>();
+            lines = new BufferParser(buffer).parseInto(envVariables);
+        }
+        if (statistics != null) {
+            statistics.recordParse(lines, System.nanoTime() - start);
+        }
+        return envVariables;
+    }
+
+    /**
+     * Parses UTF-8 encoded {@code .env} content between the buffer's position and limit sequentially,
+     * reporting every line in order, including those that define no variable.
+     *
+     * @param buffer  the bytes to parse
+     * @param visitor the receiver of every line
+     * @return the number of lines
+     * @throws DotenvParseException if the content is not valid UTF-8
+     */
+    int parseLines(ByteBuffer buffer, LineVisitor visitor) {
+        return new BufferParser(buffer).parse(visitor);
+    }
+
+    private void parseLine(String line, Map<String, String> envVariables) {
+        String[] entry = entry(line);
+        if (entry != null) {
+            envVariables.put(entry[0], entry[1]);
+            if (log.isLoggable(Level.DEBUG)) {
+                log.log(Level.DEBUG, "[Dotenv] Loaded variable: {0}=***", entry[0]);
+            }
+        }
+    }
+
+    /**
+     * Splits a decoded line into its key and value, or returns {@code null} if it defines no variable.
+     */
+    private static String[] entry(String line) {
+        if (line.isBlank() || line.startsWith("#")) return null;
+
+        String[] parts = line.split("=", 2);
+        if (parts.length != 2) return null;
+
+        String key = parts[0].trim();
+        String value = parts[1].trim();
+
+        if (value.length() > 1
+                && ((value.startsWith("\"") && value.endsWith("\"")) || (value.startsWith("'") && value.endsWith("'")))) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return new String[]{key, value};
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Keep reading until the buffer is full or the end of the file is reached
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Returns the index following the line break at or after {@code from}, which is the start of a line.
+     * A {@code \r\n} pair is never split.
+     */
+    private static int nextLineStart(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n') return i + 1;
+            if (b == '\r') return i + 1 < limit && buffer.get(i + 1) == '\n' ? i + 2 : i + 1;
+        }
+        return limit;
+    }
+
+    /**
+     * Receives the lines of parsed content in order.
+     */
+    interface LineVisitor {
+
+        /**
+         * Visits one line.
+         *
+         * @param key   the variable defined by the line, or {@code null} for blank, comment or malformed lines
+         * @param value the value of the variable, or {@code null} if the line defines none
+         */
+        void visit(String key, String value);
+    }
+
+    /**
+     * Variables and line count of a parsed chunk.
+     */
+    private record ChunkResult(Map<String, String> envVariables, int lines) {
+    }
+
+    /**
+     * Parses the lines between two line starts, halving the range at a line boundary while it is
+     * larger than the chunk size. The right half is merged over the left one, preserving file order.
+     */
+    private final class ChunkTask extends RecursiveTask<ChunkResult> {
+
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+
+        private ChunkTask(ByteBuffer buffer, int start, int end, int chunkSize) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (end - start > chunkSize) {
+                int middle = nextLineStart(buffer, start + (end - start) / 2, end);
+                if (middle < end) {
+                    ChunkTask left = new ChunkTask(buffer, start, middle, chunkSize);
+                    left.fork();
+                    ChunkResult right = new ChunkTask(buffer, middle, end, chunkSize).compute();
+                    ChunkResult merged = left.join();
+                    merged.envVariables.putAll(right.envVariables);
+                    return new ChunkResult(merged.envVariables, merged.lines + right.lines);
+                }
+            }
+            // Each chunk reads through its own view, as buffers are not safe for concurrent use
+            ByteBuffer chunk = buffer.duplicate().limit(end).position(start);
+            Map<String, String> envVariables = new HashMap<>();
+            int lines = new BufferParser(chunk).parseInto(envVariables);
+            return new ChunkResult(envVariables, lines);
+        }
+    }
+
+    /**
+     * Single-use cursor over a byte buffer that splits it into lines the same way
+     * {@link java.io.BufferedReader#readLine()} does ({@code \n}, {@code \r} or {@code \r\n}).
+     */
+    private final class BufferParser {
+
+        private final ByteBuffer buffer;
+        private byte[] scratch;
+        private CharsetDecoder decoder;
+        private String key;
+        private String value;
+
+        private BufferParser(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private int parseInto(Map<String, String> envVariables) {
+            return parse((name, text) -> {
+                if (name != null) envVariables.put(name, text);
+            });
+        }
+
+        private int parse(LineVisitor visitor) {
+            int limit = buffer.limit();
+            int lineStart = buffer.position();
+            int lines = 0;
+            while (lineStart < limit) {
+                lines++;
+                int separator = -1;
+                boolean ascii = true;
+                int lineEnd = lineStart;
+                for (; lineEnd < limit; lineEnd++) {
+                    byte b = buffer.get(lineEnd);
+                    if (b == '\n' || b == '\r') break;
+                    if (b < 0) ascii = false;
+                    else if (b == '=' && separator < 0) separator = lineEnd;
+                }
+
+                key = null;
+                value = null;
+                if (ascii) {
+                    parseAsciiLine(lineStart, lineEnd, separator);
+                } else {
+                    String[] entry = entry(decode(lineStart, lineEnd));
+                    if (entry != null) {
+                        key = entry[0];
+                        value = entry[1];
+                    }
+                }
+                if (key != null && log.isLoggable(Level.DEBUG)) {
+                    log.log(Level.DEBUG, "[Dotenv] Loaded variable: {0}=***", key);
+                }
+                visitor.visit(key, value);
+
+                if (lineEnd + 1 < limit && buffer.get(lineEnd) == '\r' && buffer.get(lineEnd + 1) == '\n') {
+                    lineEnd++;
+                }
+                lineStart = lineEnd + 1;
+            }
+            return lines;
+        }
+
+        private void parseAsciiLine(int start, int end, int separator) {
+            // Blank lines contain no separator, so they are skipped together with malformed ones
+            if (separator < 0 || buffer.get(start) == '#') return;
+
+            int keyStart = skipLeading(start, separator);
+            int keyEnd = skipTrailing(keyStart, separator);
+            int valueStart = skipLeading(separator + 1, end);
+            int valueEnd = skipTrailing(valueStart, end);
+
+            if (valueEnd - valueStart > 1) {
+                byte first = buffer.get(valueStart);
+                if ((first == '"' || first == '\'') && buffer.get(valueEnd - 1) == first) {
+                    valueStart++;
+                    valueEnd--;
+                }
+            }
+
+            key = string(keyStart, keyEnd);
+            value = string(valueStart, valueEnd);
+        }
+
+        private int skipLeading(int from, int to) {
+            while (from < to && buffer.get(from) <= ' ') from++;
+            return from;
+        }
+
+        private int skipTrailing(int from, int to) {
+            while (to > from && buffer.get(to - 1) <= ' ') to--;
+            return to;
+        }
+
+        private String string(int from, int to) {
+            int length = to - from;
+            if (length == 0) return "";
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset() + from, length, StandardCharsets.ISO_8859_1);
+            }
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, 128)];
+            }
+            buffer.get(from, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.ISO_8859_1);
+        }
+
+        private String decode(int from, int to) {
+            if (decoder == null) {
+                decoder = StandardCharsets.UTF_8.newDecoder();
+            }
+            try {
+                return decoder.decode(buffer.slice(from, to - from)).toString();
+            } catch (CharacterCodingException e) {
+                throw new DotenvParseException("Invalid UTF-8 content in .env file", e);
+            }
+        }
+    }
+}
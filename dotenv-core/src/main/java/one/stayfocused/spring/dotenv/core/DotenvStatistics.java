@@ -0,0 +1,232 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead counters describing how {@code .env} files were loaded and how their variables are looked up.
+ * <p>
+ * Every counter is a {@link LongAdder}, so recording from many threads at once does not contend on a
+ * single memory location and the counters can stay enabled in production. Read and parse counters are
+ * updated by {@link DotenvParser} for every file it reads, including reloads; files restored from a snapshot
+ * are not counted. Lookup counters are updated by the dotenv property source on every property lookup.
+ * </p>
+ * <p>
+ * When per-key tallies are enabled, successful lookups are additionally counted per variable name.
+ * Misses are never tallied per key, so the number of tallies is bounded by the number of variables.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class DotenvStatistics {
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder loadNanos = new LongAdder();
+
+    private volatile long lastLoadNanos;
+
+    private final LongAdder reads = new LongAdder();
+
+    private final LongAdder readNanos = new LongAdder();
+
+    private final LongAdder readBytes = new LongAdder();
+
+    private final LongAdder parses = new LongAdder();
+
+    private final LongAdder parseNanos = new LongAdder();
+
+    private final LongAdder parsedLines = new LongAdder();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final Map<String, LongAdder> keyHits;
+
+    /**
+     * Constructs new statistics.
+     *
+     * @param perKey whether to also count successful lookups per variable name
+     */
+    public DotenvStatistics(boolean perKey) {
+        this.keyHits = perKey ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Records that all configured files were loaded, possibly concurrently.
+     *
+     * @param nanos the wall-clock time of the whole load
+     */
+    public void recordLoad(long nanos) {
+        loads.increment();
+        loadNanos.add(nanos);
+        lastLoadNanos = nanos;
+    }
+
+    /**
+     * Records that a file was read.
+     *
+     * @param bytes the size of the file
+     * @param nanos the time spent reading or mapping it
+     */
+    public void recordRead(long bytes, long nanos) {
+        reads.increment();
+        readBytes.add(bytes);
+        readNanos.add(nanos);
+    }
+
+    /**
+     * Records that content was parsed.
+     *
+     * @param lines the number of lines parsed
+     * @param nanos the time spent parsing them
+     */
+    public void recordParse(long lines, long nanos) {
+        parses.increment();
+        parsedLines.add(lines);
+        parseNanos.add(nanos);
+    }
+
+    /**
+     * Records a property lookup.
+     *
+     * @param key the looked up name
+     * @param hit whether a variable with that name exists
+     */
+    public void recordLookup(String key, boolean hit) {
+        if (!hit) {
+            misses.increment();
+            return;
+        }
+        hits.increment();
+        if (keyHits != null) {
+            LongAdder counter = keyHits.get(key);
+            if (counter == null) {
+                counter = keyHits.computeIfAbsent(key, name -> new LongAdder());
+            }
+            counter.increment();
+        }
+    }
+
+    /**
+     * Checks whether successful lookups are counted per variable name.
+     *
+     * @return {@code true} if per-key tallies are enabled
+     */
+    public boolean isPerKey() {
+        return keyHits != null;
+    }
+
+    /**
+     * Returns the number of times all configured files were loaded.
+     *
+     * @return the load count
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns the total wall-clock time of all loads.
+     *
+     * @return the load time in nanoseconds
+     */
+    public long getLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    /**
+     * Returns the wall-clock time of the most recent load.
+     *
+     * @return the load time in nanoseconds, or {@code 0} if nothing was loaded yet
+     */
+    public long getLastLoadNanos() {
+        return lastLoadNanos;
+    }
+
+    /**
+     * Returns the number of files read.
+     *
+     * @return the read count
+     */
+    public long getReadCount() {
+        return reads.sum();
+    }
+
+    /**
+     * Returns the total time spent reading files.
+     *
+     * @return the read time in nanoseconds
+     */
+    public long getReadNanos() {
+        return readNanos.sum();
+    }
+
+    /**
+     * Returns the total size of the files read.
+     *
+     * @return the number of bytes read
+     */
+    public long getReadBytes() {
+        return readBytes.sum();
+    }
+
+    /**
+     * Returns the number of times content was parsed.
+     *
+     * @return the parse count
+     */
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    /**
+     * Returns the total time spent parsing.
+     *
+     * @return the parse time in nanoseconds
+     */
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    /**
+     * Returns the total number of lines parsed.
+     *
+     * @return the line count
+     */
+    public long getParsedLines() {
+        return parsedLines.sum();
+    }
+
+    /**
+     * Returns the number of lookups of a defined variable.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups of an undefined variable.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of successful lookups of the given variable.
+     *
+     * @param key the variable name
+     * @return the hit count, or {@code 0} if per-key tallies are disabled
+     */
+    public long getHits(String key) {
+        LongAdder counter = keyHits != null ? keyHits.get(key) : null;
+        return counter != null ? counter.sum() : 0;
+    }
+}
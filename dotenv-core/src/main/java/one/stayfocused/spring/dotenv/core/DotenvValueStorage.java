@@ -0,0 +1,46 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.util.Locale;
+
+/**
+ * Where the values of dotenv variables are kept once loaded.
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public enum DotenvValueStorage {
+
+    /** Values are strings on the heap, read without copying. */
+    HEAP,
+
+    /** Values are kept in a direct buffer and materialized as a new string on every lookup. */
+    OFF_HEAP,
+
+    /** Like {@link #OFF_HEAP}, and the buffer is overwritten with zeros on reload and on shutdown. */
+    OFF_HEAP_ZEROED;
+
+    /**
+     * Checks whether values are kept outside the heap.
+     *
+     * @return {@code true} unless values are on the heap
+     */
+    public boolean isOffHeap() {
+        return this != HEAP;
+    }
+
+    /**
+     * Parses a storage written in any case, with dashes or underscores, such as {@code off-heap}.
+     *
+     * @param value the configured value
+     * @return the storage
+     * @throws IllegalArgumentException if the value names no storage
+     */
+    public static DotenvValueStorage of(String value) {
+        try {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("[Dotenv] Unknown value storage '" + value
+                    + "', expected heap, off-heap or off-heap-zeroed", e);
+        }
+    }
+}
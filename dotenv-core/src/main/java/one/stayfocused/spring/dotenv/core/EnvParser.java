@@ -0,0 +1,36 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface for parsing environment variable files, such as {@code .env}.
+ */
+public interface EnvParser {
+
+    /**
+     * Parses a list of lines from an environment variable file into key-value pairs.
+     *
+     * @param lines the lines to parse
+     * @return a map of key-value pairs
+     */
+    Map<String, String> parse(List<String> lines);
+
+    /**
+     * Parses an environment variable file directly from disk into key-value pairs.
+     * <p>
+     * The default implementation reads all lines and delegates to {@link #parse(List)}.
+     * Implementations may override it to stream the file contents without materializing lines.
+     * </p>
+     *
+     * @param path the file to parse
+     * @return a map of key-value pairs
+     * @throws IOException if the file cannot be read
+     */
+    default Map<String, String> parse(Path path) throws IOException {
+        return parse(Files.readAllLines(path));
+    }
+}
@@ -0,0 +1,264 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link EnvParser} that reparses only the lines of a file that changed since its previous parse.
+ * <p>
+ * For every file, the parser remembers the hash of each line's bytes together with the variable the line
+ * defines. On the next parse, the file is split into lines and hashed, which allocates no strings, and
+ * the unchanged lines at its start and end are matched against the previous ones. Only the lines in
+ * between are parsed again; the keys and values of all other lines are reused as they are, and only the
+ * variables defined by changed lines are resolved again. Parsing and string allocation therefore scale
+ * with the size of the edit, while hashing the file and copying the line tables remain linear.
+ * </p>
+ * <p>
+ * The first parse of a file is a regular sequential one that records its lines. Lines are compared by a
+ * 64-bit FNV-1a hash and their length first, and lines passing that check are compared byte by byte with
+ * a copy of the previous content, so a hash collision never keeps a stale value. Meant for reloading: the
+ * recorded lines and a copy of the file's bytes stay in memory as long as the parser does.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class IncrementalEnvParser implements EnvParser {
+
+    private static final System.Logger log = System.getLogger(IncrementalEnvParser.class.getName());
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final DotenvParser parser;
+
+    private final DotenvStatistics statistics;
+
+    private final Map<Path, FileState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new incremental parser.
+     *
+     * @param parser     the parser used for changed lines
+     * @param statistics the statistics updated for every parsed file, or {@code null} to record nothing
+     */
+    public IncrementalEnvParser(DotenvParser parser, DotenvStatistics statistics) {
+        this.parser = parser;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Parses the lines with the underlying parser. Lines have no file to remember them for.
+     *
+     * @param lines the lines to parse
+     * @return a map of key-value pairs
+     */
+    @Override
+    public Map<String, String> parse(List<String> lines) {
+        return parser.parse(lines);
+    }
+
+    /**
+     * Parses the file, reparsing only the lines that changed since it was last parsed by this parser.
+     *
+     * @param path the file to parse
+     * @return an unmodifiable map of key-value pairs
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public Map<String, String> parse(Path path) throws IOException {
+        Path file = path.toAbsolutePath().normalize();
+        long start = System.nanoTime();
+        ByteBuffer buffer = DotenvParser.read(file);
+        if (statistics != null) {
+            statistics.recordRead(buffer.remaining(), System.nanoTime() - start);
+        }
+
+        start = System.nanoTime();
+        Lines lines = Lines.of(buffer);
+        FileState previous = states.get(file);
+        FileState next = previous == null ? parseAll(buffer, lines) : reparse(buffer, lines, previous);
+        states.put(file, next);
+        if (statistics != null) {
+            statistics.recordParse(next.parsedLines, System.nanoTime() - start);
+        }
+        return Collections.unmodifiableMap(next.envVariables);
+    }
+
+    /**
+     * Forgets the lines recorded for all files, so their next parse reads them as a whole.
+     */
+    public void clear() {
+        states.clear();
+    }
+
+    private FileState parseAll(ByteBuffer buffer, Lines lines) {
+        String[] keys = new String[lines.count];
+        String[] values = new String[lines.count];
+        Map<String, String> envVariables = new HashMap<>();
+        int[] index = {0};
+        parser.parseLines(buffer.duplicate(), (key, value) -> {
+            keys[index[0]] = key;
+            values[index[0]++] = value;
+            if (key != null) envVariables.put(key, value);
+        });
+        return new FileState(content(buffer), lines.starts, lines.hashes, lines.lengths, keys, values,
+                envVariables, lines.count);
+    }
+
+    private FileState reparse(ByteBuffer buffer, Lines lines, FileState previous) {
+        int count = lines.count;
+        int previousCount = previous.hashes.length;
+        int prefix = 0;
+        while (prefix < count && prefix < previousCount && lines.matches(buffer, prefix, previous, prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < count - prefix && suffix < previousCount - prefix
+                && lines.matches(buffer, count - 1 - suffix, previous, previousCount - 1 - suffix)) {
+            suffix++;
+        }
+        int changed = count - prefix - suffix;
+        int removed = previousCount - prefix - suffix;
+        if (changed == 0 && removed == 0) {
+            return new FileState(previous.content, previous.starts, previous.hashes, previous.lengths,
+                    previous.keys, previous.values, previous.envVariables, 0);
+        }
+
+        String[] keys = new String[count];
+        String[] values = new String[count];
+        System.arraycopy(previous.keys, 0, keys, 0, prefix);
+        System.arraycopy(previous.values, 0, values, 0, prefix);
+        System.arraycopy(previous.keys, previousCount - suffix, keys, count - suffix, suffix);
+        System.arraycopy(previous.values, previousCount - suffix, values, count - suffix, suffix);
+
+        // The changed lines run from the start of the first one to the start of the first unchanged one
+        int regionStart = prefix < count ? lines.starts[prefix] : buffer.limit();
+        int regionEnd = suffix == 0 ? buffer.limit() : lines.starts[count - suffix];
+        ByteBuffer region = buffer.duplicate().limit(regionEnd).position(regionStart);
+        int[] index = {prefix};
+        parser.parseLines(region, (key, value) -> {
+            keys[index[0]] = key;
+            values[index[0]++] = value;
+        });
+
+        Set<String> affected = new HashSet<>();
+        for (int i = prefix; i < prefix + removed; i++) {
+            if (previous.keys[i] != null) affected.add(previous.keys[i]);
+        }
+        for (int i = prefix; i < prefix + changed; i++) {
+            if (keys[i] != null) affected.add(keys[i]);
+        }
+        Map<String, String> envVariables = resolve(previous.envVariables, keys, values, affected);
+        log.log(Level.DEBUG, "[Dotenv] Reparsed {0} of {1} lines, {2} variables affected",
+                changed, count, affected.size());
+        return new FileState(content(buffer), lines.starts, lines.hashes, lines.lengths, keys, values,
+                envVariables, changed);
+    }
+
+    /**
+     * Returns the bytes of the buffer as an array the parser owns. A mapped buffer reflects later writes to
+     * the file, so its content is copied; the array of a buffer read into the heap is used as it is.
+     */
+    private static byte[] content(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.limit() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] content = new byte[buffer.limit()];
+        buffer.get(0, content);
+        return content;
+    }
+
+    /**
+     * Applies the last definition of every affected variable to a copy of the previous variables.
+     */
+    private static Map<String, String> resolve(Map<String, String> previous, String[] keys, String[] values,
+                                               Set<String> affected) {
+        Map<String, String> envVariables = new HashMap<>(previous);
+        Set<String> pending = new HashSet<>(affected);
+        for (int i = keys.length - 1; i >= 0 && !pending.isEmpty(); i--) {
+            if (keys[i] != null && pending.remove(keys[i])) {
+                envVariables.put(keys[i], values[i]);
+            }
+        }
+        pending.forEach(envVariables::remove);
+        return envVariables;
+    }
+
+    /**
+     * Lines of a file as recorded after its last parse, with the content they were split from. The
+     * variables are never modified once recorded, so they are handed out behind an unmodifiable view.
+     */
+    private record FileState(byte[] content, int[] starts, long[] hashes, int[] lengths, String[] keys,
+                             String[] values, Map<String, String> envVariables, int parsedLines) {
+    }
+
+    /**
+     * Start offset, length and hash of every line of a buffer, split like {@link DotenvParser} does.
+     */
+    private record Lines(int[] starts, int[] lengths, long[] hashes, int count) {
+
+        private static Lines of(ByteBuffer buffer) {
+            int limit = buffer.limit();
+            int capacity = 16;
+            int[] starts = new int[capacity];
+            int[] lengths = new int[capacity];
+            long[] hashes = new long[capacity];
+            int count = 0;
+            int lineStart = buffer.position();
+            while (lineStart < limit) {
+                if (count == capacity) {
+                    capacity *= 2;
+                    starts = Arrays.copyOf(starts, capacity);
+                    lengths = Arrays.copyOf(lengths, capacity);
+                    hashes = Arrays.copyOf(hashes, capacity);
+                }
+                long hash = FNV_OFFSET_BASIS;
+                int lineEnd = lineStart;
+                for (; lineEnd < limit; lineEnd++) {
+                    byte b = buffer.get(lineEnd);
+                    if (b == '\n' || b == '\r') break;
+                    hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+                }
+                starts[count] = lineStart;
+                lengths[count] = lineEnd - lineStart;
+                hashes[count++] = hash;
+
+                if (lineEnd + 1 < limit && buffer.get(lineEnd) == '\r' && buffer.get(lineEnd + 1) == '\n') {
+                    lineEnd++;
+                }
+                lineStart = lineEnd + 1;
+            }
+            return new Lines(starts, Arrays.copyOf(lengths, count), Arrays.copyOf(hashes, count), count);
+        }
+
+        /**
+         * Tells whether a line of the buffer equals a previous line. The hash and length rule out most
+         * changed lines cheaply; the bytes of the remaining candidates are compared to confirm the match.
+         */
+        private boolean matches(ByteBuffer buffer, int line, FileState previous, int previousLine) {
+            int length = lengths[line];
+            if (hashes[line] != previous.hashes[previousLine] || length != previous.lengths[previousLine]) {
+                return false;
+            }
+            int start = starts[line];
+            int previousStart = previous.starts[previousLine];
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(start + i) != previous.content[previousStart + i]) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package one.stayfocused.spring.dotenv.core;
+
+import one.stayfocused.spring.dotenv.exception.DotenvDecryptionException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * {@link DotenvCipher} using AES-GCM with a key read from a local file.
+ * <p>
+ * The key file holds a Base64 encoded AES key of 128, 192 or 256 bits, for example created with
+ * {@code openssl rand -base64 32 > dotenv.key}. It is read once, on the first decryption. Encrypted
+ * text is the Base64 encoding of a random 12-byte IV followed by the ciphertext and its 128-bit
+ * authentication tag, as produced by {@link #encrypt(String)}.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class KeyfileDotenvCipher implements DotenvCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    private static final int IV_LENGTH = 12;
+
+    private static final int TAG_BITS = 128;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Path keyfile;
+
+    private volatile SecretKey key;
+
+    /**
+     * Constructs a new cipher using the key in the given file.
+     *
+     * @param keyfile the file holding the Base64 encoded key
+     */
+    public KeyfileDotenvCipher(Path keyfile) {
+        this.keyfile = keyfile;
+    }
+
+    /**
+     * Decrypts the given text.
+     *
+     * @param cipherText the Base64 encoded IV, ciphertext and tag
+     * @return the plain value
+     * @throws DotenvDecryptionException if the key cannot be read or the text was not encrypted with it
+     */
+    @Override
+    public String decrypt(String cipherText) {
+        try {
+            ByteBuffer input = ByteBuffer.wrap(Base64.getDecoder().decode(cipherText.trim()));
+            if (input.remaining() <= IV_LENGTH) {
+                throw new DotenvDecryptionException("[Dotenv] Encrypted value is too short");
+            }
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, input.array(), 0, IV_LENGTH));
+            byte[] plain = cipher.doFinal(input.array(), IV_LENGTH, input.remaining() - IV_LENGTH);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            throw new DotenvDecryptionException("[Dotenv] Failed to decrypt value with key " + keyfile, e);
+        }
+    }
+
+    /**
+     * Encrypts the given value, for writing it to a {@code .env} file as {@code ENC(...)}.
+     *
+     * @param value the plain value
+     * @return the Base64 encoded IV, ciphertext and tag
+     * @throws DotenvDecryptionException if the key cannot be read
+     */
+    public String encrypt(String value) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new DotenvDecryptionException("[Dotenv] Failed to encrypt value with key " + keyfile, e);
+        }
+    }
+
+    private SecretKey key() {
+        SecretKey current = key;
+        if (current == null) {
+            synchronized (this) {
+                current = key;
+                if (current == null) {
+                    current = readKey();
+                    key = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private SecretKey readKey() {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(Files.readString(keyfile, StandardCharsets.US_ASCII).trim());
+            if (bytes.length != 16 && bytes.length != 24 && bytes.length != 32) {
+                throw new DotenvDecryptionException("[Dotenv] Key in " + keyfile + " must be 128, 192 or 256 bits long");
+            }
+            return new SecretKeySpec(bytes, "AES");
+        } catch (IOException | IllegalArgumentException e) {
+            throw new DotenvDecryptionException("[Dotenv] Failed to read key from " + keyfile, e);
+        }
+    }
+}
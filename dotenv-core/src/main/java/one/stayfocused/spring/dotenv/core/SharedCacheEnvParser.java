@@ -0,0 +1,130 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link EnvParser} decorator that shares parsed files across all application contexts of the JVM.
+ * <p>
+ * Parsed variables are kept in a process-wide cache as immutable {@link CompactStringMap}s, keyed by the
+ * file's canonical path and the delegate parser class. An entry is reused while the file's size,
+ * modification time and file key are unchanged, which costs a single {@code stat} instead of reading
+ * and parsing the file. Test suites starting many contexts and DevTools restarts, whose restart class
+ * loader leaves this library's classes in place, therefore parse every file once.
+ * </p>
+ * <p>
+ * Like Git's index, an entry cached less than {@value #RACY_MILLIS} milliseconds after the file was
+ * modified is not trusted, because the file may be rewritten with the same size within the resolution
+ * of its modification time. Such files are parsed again until their modification time is old enough.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class SharedCacheEnvParser implements EnvParser {
+
+    private static final System.Logger log = System.getLogger(SharedCacheEnvParser.class.getName());
+
+    /** Entries of files modified this recently before they were cached are parsed again. */
+    static final long RACY_MILLIS = 2000;
+
+    private static final Map<CacheKey, CacheEntry> CACHE = new ConcurrentHashMap<>();
+
+    private final EnvParser delegate;
+
+    /**
+     * Constructs a new parser backed by the process-wide cache.
+     *
+     * @param delegate the parser used when no valid entry exists
+     */
+    public SharedCacheEnvParser(EnvParser delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Parses the lines with the delegate parser. Lines have no file to key an entry by.
+     *
+     * @param lines the lines to parse
+     * @return a map of key-value pairs
+     */
+    @Override
+    public Map<String, String> parse(List<String> lines) {
+        return delegate.parse(lines);
+    }
+
+    /**
+     * Returns the cached variables of the file, or parses it and caches the result.
+     *
+     * @param path the file to parse
+     * @return an immutable map of key-value pairs
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public Map<String, String> parse(Path path) throws IOException {
+        Path file = path.toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        CacheKey key = new CacheKey(file.toString(), delegate.getClass().getName());
+
+        CacheEntry entry = CACHE.get(key);
+        if (entry != null && !entry.racy && entry.matches(attributes)) {
+            log.log(Level.DEBUG, "[Dotenv] Reusing {0} parsed variables of {1}", entry.envVariables.size(), file);
+            return entry.envVariables;
+        }
+
+        long cachedAt = System.currentTimeMillis();
+        CompactStringMap envVariables = CompactStringMap.copyOf(delegate.parse(file));
+        BasicFileAttributes parsedAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+        CacheEntry parsed = new CacheEntry(attributes, envVariables, cachedAt);
+        if (parsed.matches(parsedAttributes)) {
+            CACHE.put(key, parsed);
+        } else {
+            CACHE.remove(key);
+        }
+        return envVariables;
+    }
+
+    /**
+     * Discards all cached files.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private record CacheKey(String path, String parser) {
+    }
+
+    private static final class CacheEntry {
+
+        private final long size;
+
+        private final FileTime lastModifiedTime;
+
+        private final Object fileKey;
+
+        private final CompactStringMap envVariables;
+
+        private final boolean racy;
+
+        private CacheEntry(BasicFileAttributes attributes, CompactStringMap envVariables, long cachedAt) {
+            this.size = attributes.size();
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.fileKey = attributes.fileKey();
+            this.envVariables = envVariables;
+            this.racy = lastModifiedTime.toMillis() >= cachedAt - RACY_MILLIS;
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size()
+                    && lastModifiedTime.equals(attributes.lastModifiedTime())
+                    && Objects.equals(fileKey, attributes.fileKey());
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package one.stayfocused.spring.dotenv.core;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link EnvParser} decorator that keeps a binary snapshot of every parsed file on disk.
+ * <p>
+ * A snapshot is named after the file's canonical path and the delegate parser class, and is valid while
+ * the file's size, modification time and file key are unchanged, as in {@link SharedCacheEnvParser}. A
+ * hit therefore costs a single {@code stat} of the file and decoding the memory-mapped snapshot, without
+ * reading the file. Corrupt, stale or unreadable snapshots are ignored and the file is parsed by the
+ * delegate, after which the snapshot is rewritten.
+ * </p>
+ * <p>
+ * Like Git's index, no snapshot is written for a file modified less than
+ * {@value SharedCacheEnvParser#RACY_MILLIS} milliseconds before it was parsed, because the file may be
+ * rewritten with the same size within the resolution of its modification time. Such files are parsed
+ * again until their modification time is old enough.
+ * </p>
+ * <p>
+ * Snapshot format, big-endian: magic, format version, file size, modification time in nanoseconds,
+ * file key, canonical path, delegate parser class, entry count, the entries as length-prefixed UTF-8
+ * strings, and finally a CRC32C of everything before it, which detects torn or corrupt snapshots.
+ * </p>
+ * <p>
+ * Snapshots hold the plain values, secrets included. On POSIX file systems, the directory and the
+ * snapshots are therefore created readable by their owner only, and an existing directory is restricted
+ * to its owner before use. Snapshots are not used at all if the directory cannot be restricted, and
+ * snapshot files that other users may read or write are ignored.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class SnapshotEnvParser implements EnvParser {
+
+    private static final System.Logger log = System.getLogger(SnapshotEnvParser.class.getName());
+
+    private static final int MAGIC = 0x44454E56; // "DENV"
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String SNAPSHOT_SUFFIX = ".envsnap";
+
+    /** Default directory for snapshots, in the cache directory of the user running the application. */
+    public static final String DEFAULT_SNAPSHOT_DIRECTORY = System.getProperty("user.home") + "/.cache/dotenv-snapshots";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    private final EnvParser delegate;
+
+    private final Path snapshotDirectory;
+
+    /**
+     * Constructs a new parser that stores snapshots in the given directory.
+     *
+     * @param delegate          the parser used when no valid snapshot exists
+     * @param snapshotDirectory the directory for snapshot files, created on demand and restricted to its owner
+     */
+    public SnapshotEnvParser(EnvParser delegate, Path snapshotDirectory) {
+        this.delegate = delegate;
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Parses the lines with the delegate parser. Lines have no file to key a snapshot by.
+     *
+     * @param lines the lines to parse
+     * @return a map of key-value pairs
+     */
+    @Override
+    public Map<String, String> parse(List<String> lines) {
+        return delegate.parse(lines);
+    }
+
+    /**
+     * Returns the variables of the file from its snapshot, or parses it and stores a new snapshot.
+     *
+     * @param path the file to parse
+     * @return a map of key-value pairs
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public Map<String, String> parse(Path path) throws IOException {
+        Path file = path.toRealPath();
+        if (!secureDirectory()) {
+            return delegate.parse(file);
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        // The startup and reload parsers of a file decorate different delegates, so each keeps its own snapshot
+        String name = file + "\0" + delegate.getClass().getName();
+        Path snapshot = snapshotDirectory.resolve(
+                UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)) + SNAPSHOT_SUFFIX);
+
+        Map<String, String> envVariables = readSnapshot(snapshot, file, attributes);
+        if (envVariables != null) {
+            log.log(Level.DEBUG, "[Dotenv] Loaded {0} variables of {1} from snapshot {2}",
+                    envVariables.size(), file, snapshot);
+            return envVariables;
+        }
+
+        long parsedAt = System.currentTimeMillis();
+        envVariables = delegate.parse(file);
+        BasicFileAttributes parsedAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (matches(attributes, parsedAttributes)
+                && attributes.lastModifiedTime().toMillis() < parsedAt - SharedCacheEnvParser.RACY_MILLIS) {
+            writeSnapshot(snapshot, file, attributes, envVariables);
+        }
+        return envVariables;
+    }
+
+    /**
+     * Creates the snapshot directory readable by its owner only, or restricts an existing one to its owner.
+     */
+    private boolean secureDirectory() {
+        try {
+            if (!isPosix()) {
+                Files.createDirectories(snapshotDirectory);
+            } else if (!Files.isDirectory(snapshotDirectory)) {
+                Files.createDirectories(snapshotDirectory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+            } else if (!Files.getPosixFilePermissions(snapshotDirectory).equals(OWNER_ONLY_DIRECTORY)) {
+                Files.setPosixFilePermissions(snapshotDirectory, OWNER_ONLY_DIRECTORY);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "[Dotenv] Not using snapshots, {0} cannot be restricted to its owner: {1}",
+                    snapshotDirectory, e.toString());
+            return false;
+        }
+    }
+
+    private boolean isPosix() {
+        return snapshotDirectory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private Map<String, String> readSnapshot(Path snapshot, Path file, BasicFileAttributes attributes) {
+        if (!Files.isRegularFile(snapshot)) return null;
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (isPosix() && !Files.getFileAttributeView(snapshot, PosixFileAttributeView.class)
+                    .readAttributes().permissions().equals(OWNER_ONLY_FILE)) {
+                log.log(Level.DEBUG, "[Dotenv] Ignoring snapshot {0} accessible to other users", snapshot);
+                return null;
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != attributes.size()
+                    || buffer.getLong() != attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS)
+                    || !fileKey(attributes).equals(readString(buffer))
+                    || !file.toString().equals(readString(buffer))
+                    || !delegate.getClass().getName().equals(readString(buffer))) {
+                return null;
+            }
+
+            int payloadLength = buffer.limit() - Integer.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().position(0).limit(payloadLength));
+            if ((int) crc.getValue() != buffer.getInt(payloadLength)) {
+                return null;
+            }
+
+            int count = buffer.getInt();
+            Map<String, String> envVariables = new HashMap<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                envVariables.put(readString(buffer), readString(buffer));
+            }
+            return envVariables;
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.DEBUG, "[Dotenv] Ignoring unreadable snapshot {0}: {1}", snapshot, e.toString());
+            return null;
+        }
+    }
+
+    private void writeSnapshot(Path snapshot, Path file, BasicFileAttributes attributes,
+                               Map<String, String> envVariables) {
+        byte[] fileKey = fileKey(attributes).getBytes(StandardCharsets.UTF_8);
+        byte[] path = file.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] parser = delegate.getClass().getName().getBytes(StandardCharsets.UTF_8);
+        byte[][] entries = new byte[envVariables.size() * 2][];
+        int length = 3 * Integer.BYTES + 2 * Long.BYTES + 3 * Integer.BYTES
+                + fileKey.length + path.length + parser.length;
+        int index = 0;
+        for (Map.Entry<String, String> entry : envVariables.entrySet()) {
+            entries[index] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            entries[index + 1] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            length += 2 * Integer.BYTES + entries[index].length + entries[index + 1].length;
+            index += 2;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length + Integer.BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(attributes.size())
+                .putLong(attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS))
+                .putInt(fileKey.length).put(fileKey)
+                .putInt(path.length).put(path)
+                .putInt(parser.length).put(parser)
+                .putInt(envVariables.size());
+        for (byte[] bytes : entries) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue()).flip();
+
+        try {
+            Path temporary = isPosix()
+                    ? Files.createTempFile(snapshotDirectory, "dotenv-", ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE))
+                    : Files.createTempFile(snapshotDirectory, "dotenv-", ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.log(Level.DEBUG, "[Dotenv] Stored snapshot of {0} in {1}", file, snapshot);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "[Dotenv] Failed to store snapshot of {0} in {1}: {2}",
+                    file, snapshotDirectory, e.getMessage());
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean matches(BasicFileAttributes attributes, BasicFileAttributes current) {
+        return attributes.size() == current.size()
+                && attributes.lastModifiedTime().equals(current.lastModifiedTime())
+                && Objects.equals(attributes.fileKey(), current.fileKey());
+    }
+
+    /**
+     * Returns the file key, such as the device and inode, which changes when the file is replaced.
+     */
+    private static String fileKey(BasicFileAttributes attributes) {
+        return String.valueOf(attributes.fileKey());
+    }
+}
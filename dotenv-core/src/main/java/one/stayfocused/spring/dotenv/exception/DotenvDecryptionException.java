@@ -0,0 +1,26 @@
+package one.stayfocused.spring.dotenv.exception;
+
+/**
+ * Exception thrown when an encrypted {@code ENC(...)} value cannot be decrypted.
+ */
+public class DotenvDecryptionException extends RuntimeException {
+
+    /**
+     * Constructs a new exception with the specified message.
+     *
+     * @param message the error message
+     */
+    public DotenvDecryptionException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception with the specified message and cause.
+     *
+     * @param message the error message
+     * @param cause the cause of the error
+     */
+    public DotenvDecryptionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
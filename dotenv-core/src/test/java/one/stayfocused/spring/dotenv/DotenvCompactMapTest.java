@@ -0,0 +1,71 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.CompactStringMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotenvCompactMapTest {
+
+    @Test
+    void shouldBehaveLikeSourceMap() {
+        Map<String, String> source = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            source.put("KEY_" + i, "value-" + i);
+        }
+
+        CompactStringMap map = CompactStringMap.copyOf(source);
+
+        assertEquals(source, map);
+        assertEquals(source.hashCode(), map.hashCode());
+        source.forEach((key, value) -> assertEquals(value, map.get(new String(key))));
+        assertNull(map.get("KEY_1000"));
+        assertFalse(map.containsKey(42));
+    }
+
+    @Test
+    void shouldResolveCollidingHashes() {
+        // "Aa" and "BB" share the same String hash code
+        Map<String, String> map = CompactStringMap.copyOf(Map.of("Aa", "first", "BB", "second", "", "empty"));
+
+        assertEquals("first", map.get("Aa"));
+        assertEquals("second", map.get("BB"));
+        assertEquals("empty", map.get(""));
+        assertNull(map.get("C#"));
+    }
+
+    @Test
+    void shouldKeepSourceOrderAndInternKeys() {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put(new String("ZED"), "1");
+        source.put(new String("ALPHA"), "2");
+
+        CompactStringMap map = CompactStringMap.copyOf(source);
+
+        assertEquals(List.of("ZED", "ALPHA"), List.copyOf(map.keySet()));
+        assertSame("ALPHA", map.keySet().toArray()[1]);
+        assertEquals(1, map.indexOf("ALPHA"));
+        assertEquals(-1, map.indexOf("BETA"));
+    }
+
+    @Test
+    void shouldBeImmutable() {
+        CompactStringMap map = CompactStringMap.copyOf(Map.of("KEY", "value"));
+
+        assertSame(map, CompactStringMap.copyOf(map));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("KEY", "other"));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue("other"));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertTrue(CompactStringMap.copyOf(Map.of()).isEmpty());
+    }
+}
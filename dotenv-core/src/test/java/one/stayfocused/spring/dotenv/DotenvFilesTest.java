@@ -0,0 +1,54 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvFiles;
+import one.stayfocused.spring.dotenv.core.DotenvLocation;
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DotenvFilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldLoadWithoutSpringOnTheClasspath() {
+        assertThrows(ClassNotFoundException.class, () -> Class.forName("org.springframework.core.env.Environment"));
+    }
+
+    @Test
+    void shouldMergeFilesInOrder() throws IOException {
+        Path env = Files.writeString(tempDir.resolve(".env"), "HOST=localhost\nPORT=8080\n");
+        Path local = Files.writeString(tempDir.resolve(".env.local"), "PORT=9090\nDEBUG=\"true\"\n");
+
+        Map<String, String> variables = DotenvFiles.load(env.toString(), local.toString(),
+                tempDir.resolve(".env.missing").toString());
+
+        assertEquals(Map.of("HOST", "localhost", "PORT", "9090", "DEBUG", "true"), variables);
+    }
+
+    @Test
+    void shouldSkipOptionalFilesAndFailOnRequiredOnes() throws IOException {
+        Path env = Files.writeString(tempDir.resolve(".env"), "HOST=localhost\n");
+        String missing = tempDir.resolve(".env.missing").toString();
+
+        Map<String, Map<String, String>> layers = DotenvFiles.loadLayers(
+                List.of(DotenvLocation.of(env.toString()), DotenvLocation.optional(missing)), true, new DotenvParser());
+
+        assertEquals(Map.of(env.toString(), Map.of("HOST", "localhost")), layers);
+        assertFalse(layers.containsKey(missing));
+        assertThrows(DotenvFileNotFoundException.class,
+                () -> DotenvFiles.load(List.of(DotenvLocation.of(missing)), true, new DotenvParser()));
+    }
+}
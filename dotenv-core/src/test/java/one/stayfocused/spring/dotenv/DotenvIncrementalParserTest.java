@@ -0,0 +1,127 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.core.IncrementalEnvParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DotenvIncrementalParserTest {
+
+    private static final String[] SEPARATORS = {"\n", "\r\n", "\r"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseLikeFullParserAcrossEdits() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            lines.add(line(i));
+        }
+        Path file = tempDir.resolve(".env");
+        IncrementalEnvParser parser = new IncrementalEnvParser(new DotenvParser(), null);
+        Random random = new Random(42);
+
+        for (int edit = 0; edit < 200; edit++) {
+            write(file, lines, edit % 5 == 0);
+            assertEquals(new DotenvParser().parse(file), parser.parse(file), "after edit " + edit);
+
+            int index = random.nextInt(lines.size());
+            switch (random.nextInt(4)) {
+                case 0 -> lines.set(index, line(random.nextInt(5000)));
+                case 1 -> lines.add(index, line(random.nextInt(5000)));
+                case 2 -> lines.remove(index);
+                default -> lines.set(index, "DUPLICATE=" + edit);
+            }
+        }
+    }
+
+    @Test
+    void shouldReparseOnlyChangedLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            lines.add("KEY_" + i + "=value-" + i);
+        }
+        Path file = tempDir.resolve(".env");
+        write(file, lines, true);
+        DotenvStatistics statistics = new DotenvStatistics(false);
+        IncrementalEnvParser parser = new IncrementalEnvParser(new DotenvParser(), statistics);
+        Map<String, String> first = parser.parse(file);
+
+        lines.set(5000, "KEY_5000=changed");
+        lines.add(7000, "ADDED=new");
+        write(file, lines, true);
+        Map<String, String> second = parser.parse(file);
+
+        assertEquals(10_000 + 2001, statistics.getParsedLines());
+        assertEquals("changed", second.get("KEY_5000"));
+        assertEquals("new", second.get("ADDED"));
+        assertSame(first.get("KEY_1"), second.get("KEY_1"));
+        assertSame(first.get("KEY_9999"), second.get("KEY_9999"));
+    }
+
+    @Test
+    void shouldRestoreEarlierDefinitionWhenLaterOneIsRemoved() throws IOException {
+        Path file = Files.writeString(tempDir.resolve(".env"), "FLAG=first\nOTHER=1\nFLAG=last\n");
+        IncrementalEnvParser parser = new IncrementalEnvParser(new DotenvParser(), null);
+        assertEquals("last", parser.parse(file).get("FLAG"));
+
+        Files.writeString(file, "FLAG=first\nOTHER=1\n");
+        assertEquals(Map.of("FLAG", "first", "OTHER", "1"), parser.parse(file));
+
+        Files.writeString(file, "OTHER=1\n");
+        assertEquals(Map.of("OTHER", "1"), parser.parse(file));
+    }
+
+    @Test
+    void shouldDetectSameLengthEditsInMappedFiles() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            lines.add("KEY_" + i + "=value-" + i);
+        }
+        Path file = tempDir.resolve(".env");
+        write(file, lines, true);
+        IncrementalEnvParser parser = new IncrementalEnvParser(new DotenvParser(), null);
+        assertEquals("value-2500", parser.parse(file).get("KEY_2500"));
+
+        lines.set(2500, "KEY_2500=VALUE-2500");
+        write(file, lines, true);
+        assertEquals("VALUE-2500", parser.parse(file).get("KEY_2500"));
+
+        lines.set(2500, "KEY_2500=value-2500");
+        write(file, lines, true);
+        assertEquals(new DotenvParser().parse(file), parser.parse(file));
+    }
+
+    private static String line(int i) {
+        return switch (i % 6) {
+            case 0 -> "# comment " + i;
+            case 1 -> "FLAG_" + (i % 50) + "=\"on-" + i + '"';
+            case 2 -> "  SPACED_" + i + "  =  'zażółć " + i + "'  ";
+            case 3 -> "";
+            default -> "KEY_" + i + "=value=" + i;
+        };
+    }
+
+    private static void write(Path file, List<String> lines, boolean trailingSeparator) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) content.append(SEPARATORS[i % SEPARATORS.length]);
+            content.append(lines.get(i));
+        }
+        if (trailingSeparator) content.append('\n');
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,77 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvInterpolator;
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotenvInterpolationTest {
+
+    private static final Function<String, String> OS_ENVIRONMENT = Map.of("DB_PORT", "5432", "PATH", "/usr/bin")::get;
+
+    @Test
+    void shouldResolveReferencesInDependencyOrder() {
+        Map<String, String> values = Map.of(
+                "DB_URL", "jdbc:postgresql://${DB_HOST}:${DB_PORT}/${DB_NAME}",
+                "DB_HOST", "${DB_PREFIX}.internal",
+                "DB_PREFIX", "db",
+                "DB_NAME", "app");
+
+        Map<String, String> resolved = DotenvInterpolator.interpolate(values, OS_ENVIRONMENT);
+
+        assertEquals("jdbc:postgresql://db.internal:5432/app", resolved.get("DB_URL"));
+        assertEquals("db.internal", resolved.get("DB_HOST"));
+    }
+
+    @Test
+    void shouldKeepUnresolvedReferencesForSpring() {
+        Map<String, String> resolved = DotenvInterpolator.interpolate(
+                Map.of("NAME", "${spring.application.name:app}-${MISSING}", "BROKEN", "${UNTERMINATED"), OS_ENVIRONMENT);
+
+        assertEquals("${spring.application.name:app}-${MISSING}", resolved.get("NAME"));
+        assertEquals("${UNTERMINATED", resolved.get("BROKEN"));
+    }
+
+    @Test
+    void shouldResolveSelfReferenceFromFallback() {
+        Map<String, String> resolved = DotenvInterpolator.interpolate(Map.of("PATH", "${PATH}:/opt/bin"), OS_ENVIRONMENT);
+
+        assertEquals("/usr/bin:/opt/bin", resolved.get("PATH"));
+    }
+
+    @Test
+    void shouldReturnSameMapWithoutReferences() {
+        Map<String, String> values = Map.of("PLAIN", "value", "DOLLAR", "$5");
+
+        assertSame(values, DotenvInterpolator.interpolate(values, OS_ENVIRONMENT));
+    }
+
+    @Test
+    void shouldRejectCircularReferences() {
+        Map<String, String> values = Map.of("A", "${B}", "B", "x${C}", "C", "${A}");
+
+        DotenvParseException exception = assertThrows(DotenvParseException.class,
+                () -> DotenvInterpolator.interpolate(values, OS_ENVIRONMENT));
+        assertTrue(exception.getMessage().contains("Circular variable reference"));
+    }
+
+    @Test
+    void shouldResolveLayersAgainstMergedVariables() {
+        Map<String, Map<String, String>> layers = new LinkedHashMap<>();
+        layers.put(".env", Map.of("HOST", "base", "URL", "http://${HOST}"));
+        layers.put(".env.local", Map.of("HOST", "local"));
+
+        Map<String, Map<String, String>> resolved = DotenvInterpolator.interpolateLayers(layers, OS_ENVIRONMENT);
+
+        assertEquals("http://local", resolved.get(".env").get("URL"));
+        assertEquals("local", resolved.get(".env.local").get("HOST"));
+    }
+}
@@ -0,0 +1,66 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DotenvParallelParserTest {
+
+    private static final String[] SEPARATORS = {"\n", "\r\n", "\r"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseLikeSequentialParser() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            String separator = SEPARATORS[i % SEPARATORS.length];
+            switch (i % 7) {
+                case 0 -> content.append("# comment ").append(i);
+                case 1 -> content.append("FLAG_").append(i % 5000).append("=\"on-").append(i).append('"');
+                case 2 -> content.append("  SPACED_").append(i).append("  =  'zażółć ").append(i).append("'  ");
+                case 3 -> content.append("   ");
+                default -> content.append("KEY_").append(i).append("=value=").append(i);
+            }
+            content.append(separator);
+        }
+        content.append("LAST=no newline");
+        Path file = Files.writeString(tempDir.resolve(".env"), content);
+
+        DotenvStatistics sequentialStatistics = new DotenvStatistics(false);
+        DotenvStatistics parallelStatistics = new DotenvStatistics(false);
+        Map<String, String> sequential = new DotenvParser(sequentialStatistics, Long.MAX_VALUE).parse(file);
+        Map<String, String> parallel = new DotenvParser(parallelStatistics, 0).parse(file);
+
+        assertEquals(sequential, parallel);
+        assertEquals(sequentialStatistics.getParsedLines(), parallelStatistics.getParsedLines());
+        assertEquals(new DotenvParser().parse(Files.readAllLines(file)), parallel);
+    }
+
+    @Test
+    void shouldKeepLastDefinitionAcrossChunks() {
+        StringBuilder content = new StringBuilder("FLAG=first\n");
+        for (int i = 0; i < 50_000; i++) {
+            content.append("KEY_").append(i).append('=').append(i).append('\n');
+        }
+        content.append("FLAG=last\n");
+        ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+
+        Map<String, String> parsed = new DotenvParser(null, 0).parse(buffer);
+
+        assertEquals("last", parsed.get("FLAG"));
+        assertEquals(50_001, parsed.size());
+        assertEquals(0, buffer.position());
+    }
+}
@@ -0,0 +1,95 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.EnvParser;
+import one.stayfocused.spring.dotenv.core.SharedCacheEnvParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DotenvSharedCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private final EnvParser countingParser = new EnvParser() {
+
+        private final DotenvParser parser = new DotenvParser();
+
+        @Override
+        public Map<String, String> parse(List<String> lines) {
+            return parser.parse(lines);
+        }
+
+        @Override
+        public Map<String, String> parse(Path path) throws IOException {
+            parses.incrementAndGet();
+            return parser.parse(path);
+        }
+    };
+
+    @BeforeEach
+    void clearCache() {
+        SharedCacheEnvParser.clear();
+    }
+
+    @Test
+    void shouldShareParsedFileAcrossParsers() throws IOException {
+        Path file = write("HOST=localhost\nPORT=8080", Instant.now().minus(1, ChronoUnit.HOURS));
+
+        Map<String, String> first = new SharedCacheEnvParser(countingParser).parse(file);
+        Map<String, String> second = new SharedCacheEnvParser(countingParser).parse(tempDir.resolve("./.env"));
+
+        assertEquals(Map.of("HOST", "localhost", "PORT", "8080"), first);
+        assertSame(first, second);
+        assertEquals(1, parses.get());
+        assertThrows(UnsupportedOperationException.class, () -> first.put("HOST", "changed"));
+    }
+
+    @Test
+    void shouldParseAgainWhenFileChanges() throws IOException {
+        Instant modified = Instant.now().minus(1, ChronoUnit.HOURS);
+        Path file = write("HOST=localhost", modified);
+        SharedCacheEnvParser parser = new SharedCacheEnvParser(countingParser);
+        parser.parse(file);
+
+        // Same size, later modification time
+        write("HOST=remote-ho", modified.plusSeconds(1));
+
+        assertEquals(Map.of("HOST", "remote-ho"), parser.parse(file));
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void shouldNotTrustRecentlyModifiedFile() throws IOException {
+        Path file = write("HOST=localhost", Instant.now());
+        SharedCacheEnvParser parser = new SharedCacheEnvParser(countingParser);
+
+        parser.parse(file);
+        parser.parse(file);
+
+        assertEquals(2, parses.get());
+    }
+
+    private Path write(String content, Instant modified) throws IOException {
+        Path file = Files.writeString(tempDir.resolve(".env"), content);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+        return file;
+    }
+}
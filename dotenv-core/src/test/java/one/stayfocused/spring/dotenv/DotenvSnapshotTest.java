@@ -0,0 +1,143 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.EnvParser;
+import one.stayfocused.spring.dotenv.core.SnapshotEnvParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DotenvSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger parsedFiles = new AtomicInteger();
+
+    private final EnvParser countingParser = new EnvParser() {
+
+        private final DotenvParser parser = new DotenvParser();
+
+        @Override
+        public Map<String, String> parse(List<String> lines) {
+            return parser.parse(lines);
+        }
+
+        @Override
+        public Map<String, String> parse(Path path) throws IOException {
+            parsedFiles.incrementAndGet();
+            return parser.parse(path);
+        }
+    };
+
+    @Test
+    void shouldLoadUnchangedFileFromSnapshot() throws IOException {
+        Path file = write(".env", "KEY=value\nGREETING=\"привіт\"\nEMPTY=", 60);
+        SnapshotEnvParser parser = new SnapshotEnvParser(countingParser, tempDir.resolve("snapshots"));
+
+        Map<String, String> parsed = parser.parse(file);
+        Map<String, String> restored = new SnapshotEnvParser(countingParser, tempDir.resolve("snapshots")).parse(file);
+
+        assertEquals(Map.of("KEY", "value", "GREETING", "привіт", "EMPTY", ""), parsed);
+        assertEquals(parsed, restored);
+        assertEquals(1, parsedFiles.get());
+    }
+
+    @Test
+    void shouldParseAgainWhenFileChanged() throws IOException {
+        Path file = write(".env", "KEY=before", 60);
+        SnapshotEnvParser parser = new SnapshotEnvParser(countingParser, tempDir.resolve("snapshots"));
+        parser.parse(file);
+
+        write(".env", "KEY=after!", 30);
+
+        assertEquals(Map.of("KEY", "after!"), parser.parse(file));
+        assertEquals(2, parsedFiles.get());
+    }
+
+    @Test
+    void shouldNotSnapshotRecentlyModifiedFiles() throws IOException {
+        Path file = Files.writeString(tempDir.resolve(".env"), "KEY=value");
+        SnapshotEnvParser parser = new SnapshotEnvParser(countingParser, tempDir.resolve("snapshots"));
+
+        assertEquals(Map.of("KEY", "value"), parser.parse(file));
+        assertEquals(Map.of("KEY", "value"), parser.parse(file));
+        assertEquals(2, parsedFiles.get());
+        try (Stream<Path> snapshots = Files.list(tempDir.resolve("snapshots"))) {
+            assertEquals(0, snapshots.count());
+        }
+    }
+
+    @Test
+    void shouldKeepOneSnapshotPerDelegateParser() throws IOException {
+        Path file = write(".env", "KEY=value", 60);
+        SnapshotEnvParser counting = new SnapshotEnvParser(countingParser, tempDir.resolve("snapshots"));
+        SnapshotEnvParser plain = new SnapshotEnvParser(new DotenvParser(), tempDir.resolve("snapshots"));
+
+        counting.parse(file);
+        plain.parse(file);
+        assertEquals(Map.of("KEY", "value"), counting.parse(file));
+
+        assertEquals(1, parsedFiles.get());
+        try (Stream<Path> snapshots = Files.list(tempDir.resolve("snapshots"))) {
+            assertEquals(2, snapshots.count());
+        }
+    }
+
+    @Test
+    void shouldParseAgainWhenSnapshotIsCorrupt() throws IOException {
+        Path file = write(".env", "KEY=value", 60);
+        SnapshotEnvParser parser = new SnapshotEnvParser(countingParser, tempDir.resolve("snapshots"));
+        parser.parse(file);
+
+        try (Stream<Path> snapshots = Files.list(tempDir.resolve("snapshots"))) {
+            Path snapshot = snapshots.findFirst().orElseThrow();
+            byte[] bytes = Files.readAllBytes(snapshot);
+            bytes[bytes.length - 6] ^= 0x7F;
+            Files.write(snapshot, bytes);
+        }
+
+        assertEquals(Map.of("KEY", "value"), parser.parse(file));
+        assertEquals(Map.of("KEY", "value"), parser.parse(file));
+        assertEquals(2, parsedFiles.get());
+    }
+
+    @Test
+    void shouldKeepSnapshotsReadableByOwnerOnly() throws IOException {
+        assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path file = write(".env", "SECRET=value", 60);
+        Path directory = Files.createDirectory(tempDir.resolve("snapshots"),
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxrwxrwx")));
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        new SnapshotEnvParser(countingParser, directory).parse(file);
+
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(directory)));
+        try (Stream<Path> snapshots = Files.list(directory)) {
+            Path snapshot = snapshots.findFirst().orElseThrow();
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(snapshot)));
+
+            Files.setPosixFilePermissions(snapshot, PosixFilePermissions.fromString("rw-rw-rw-"));
+        }
+
+        assertEquals(Map.of("SECRET", "value"), new SnapshotEnvParser(countingParser, directory).parse(file));
+        assertEquals(2, parsedFiles.get());
+    }
+
+    private Path write(String name, String content, int secondsAgo) throws IOException {
+        Path file = Files.writeString(tempDir.resolve(name), content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - secondsAgo * 1000L));
+        return file;
+    }
+}
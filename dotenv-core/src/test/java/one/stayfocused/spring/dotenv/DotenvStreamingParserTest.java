@@ -0,0 +1,74 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DotenvStreamingParserTest {
+
+    private static final String CONTENT = String.join("\n",
+            "# comment",
+            "",
+            "   ",
+            "PLAIN=value",
+            "  SPACED  =  spaced value  ",
+            "DOUBLE=\"quoted\"",
+            "SINGLE='quoted'",
+            "LONE=\"",
+            "EMPTY=",
+            "EQUALS=a=b=c",
+            "NO_SEPARATOR",
+            " # not a comment=kept",
+            "UNICODE=zażółć\r",
+            "CRLF=windows\r",
+            "OLD_MAC=cr\rAFTER_CR=next",
+            "PLAIN=overridden",
+            "LAST=no newline");
+
+    private final DotenvParser parser = new DotenvParser();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseFileLikeLineParser() throws IOException {
+        Path file = Files.writeString(tempDir.resolve(".env"), CONTENT);
+
+        assertEquals(parser.parse(Files.readAllLines(file)), parser.parse(file));
+        assertEquals("overridden", parser.parse(file).get("PLAIN"));
+    }
+
+    @Test
+    void shouldParseMemoryMappedFileLikeLineParser() throws IOException {
+        StringBuilder content = new StringBuilder(CONTENT).append('\n');
+        for (int i = 0; i < 10_000; i++) {
+            content.append("KEY_").append(i).append("=value_").append(i).append('\n');
+        }
+        Path file = Files.writeString(tempDir.resolve(".env"), content);
+
+        assertEquals(parser.parse(Files.readAllLines(file)), parser.parse(file));
+    }
+
+    @Test
+    void shouldRejectMalformedUtf8() throws IOException {
+        Path file = Files.write(tempDir.resolve(".env"), new byte[]{'K', '=', (byte) 0xC3, '\n'});
+
+        assertThrows(DotenvParseException.class, () -> parser.parse(file));
+    }
+
+    @Test
+    void shouldDecodeNonAsciiValues() throws IOException {
+        Path file = Files.write(tempDir.resolve(".env"), "GREETING=\"привіт\"".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("привіт", parser.parse(file).get("GREETING"));
+    }
+}
@@ -0,0 +1,195 @@
+package one.stayfocused.spring.dotenv.actuator;
+
+import lombok.Getter;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.environment.LazyDotenvPropertySource;
+import one.stayfocused.spring.dotenv.reload.DotenvReloader;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.isHighPriority;
+
+/**
+ * Actuator endpoint exposing the state of the dotenv property source at {@code /actuator/dotenv}.
+ * <p>
+ * The read operation reports the loaded files, load and parse timings, the number of variables,
+ * an estimate of their retained heap and the variable names with masked values. The write operation
+ * reparses the files and swaps the variables atomically through the {@link DotenvReloader} shared with
+ * the file watcher, so both never apply their results out of order. Lookups keep seeing
+ * the previous variables while the files are parsed.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Endpoint(id = "dotenv")
+public class DotenvEndpoint {
+
+    private static final String MASK = "******";
+
+    private final ConfigurableEnvironment environment;
+
+    private final DotenvReloader reloader;
+
+    /**
+     * Constructs a new endpoint.
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment} holding the dotenv property source
+     * @param reloader    the reloader applying reloads, shared with the file watcher
+     */
+    public DotenvEndpoint(ConfigurableEnvironment environment, DotenvReloader reloader) {
+        this.environment = environment;
+        this.reloader = reloader;
+    }
+
+    /**
+     * Describes the dotenv property source.
+     *
+     * @return the description, or {@code null} if no dotenv property source is registered
+     */
+    @ReadOperation
+    public DotenvDescriptor dotenv() {
+        DotenvPropertySource propertySource = findPropertySource();
+        if (propertySource == null) {
+            return null;
+        }
+        Map<String, String> variables = new TreeMap<>();
+        for (String name : propertySource.getPropertyNames()) {
+            variables.put(name, MASK);
+        }
+        return new DotenvDescriptor(propertySource.getLocations(), isHighPriority(environment) ? "high" : "low",
+                propertySource.isReloadable(), variables.size(), propertySource.estimateRetainedBytes(),
+                new TimingsDescriptor(propertySource.getStatistics()), variables);
+    }
+
+    /**
+     * Reparses the {@code .env} files on the calling thread and swaps the variables atomically.
+     *
+     * @return the outcome of the reload
+     */
+    @WriteOperation
+    public ReloadDescriptor reload() {
+        long start = System.nanoTime();
+        Set<String> changedKeys = reloader.reload();
+        DotenvPropertySource propertySource = findPropertySource();
+        return new ReloadDescriptor(changedKeys.stream().sorted().toList(),
+                propertySource != null ? propertySource.getSource().size() : 0,
+                millis(System.nanoTime() - start));
+    }
+
+    private DotenvPropertySource findPropertySource() {
+        PropertySource<?> propertySource = environment.getPropertySources().get(PROPERTY_SOURCE_NAME);
+        if (propertySource instanceof LazyDotenvPropertySource lazy) {
+            return lazy.getPropertySource();
+        }
+        return propertySource instanceof DotenvPropertySource dotenvPropertySource ? dotenvPropertySource : null;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Description of the dotenv property source.
+     */
+    @Getter
+    public static final class DotenvDescriptor {
+
+        private final List<String> locations;
+
+        private final String priority;
+
+        private final boolean reloadable;
+
+        private final int entries;
+
+        private final long retainedBytes;
+
+        private final TimingsDescriptor timings;
+
+        private final Map<String, String> variables;
+
+        private DotenvDescriptor(List<String> locations, String priority, boolean reloadable, int entries,
+                                 long retainedBytes, TimingsDescriptor timings, Map<String, String> variables) {
+            this.locations = locations;
+            this.priority = priority;
+            this.reloadable = reloadable;
+            this.entries = entries;
+            this.retainedBytes = retainedBytes;
+            this.timings = timings;
+            this.variables = variables;
+        }
+    }
+
+    /**
+     * Load, read, parse and lookup figures accumulated since startup.
+     */
+    @Getter
+    public static final class TimingsDescriptor {
+
+        private final long loads;
+
+        private final double lastLoadMillis;
+
+        private final double totalLoadMillis;
+
+        private final long reads;
+
+        private final long readBytes;
+
+        private final double readMillis;
+
+        private final long parses;
+
+        private final long parsedLines;
+
+        private final double parseMillis;
+
+        private final long lookupHits;
+
+        private final long lookupMisses;
+
+        private TimingsDescriptor(DotenvStatistics statistics) {
+            this.loads = statistics.getLoadCount();
+            this.lastLoadMillis = millis(statistics.getLastLoadNanos());
+            this.totalLoadMillis = millis(statistics.getLoadNanos());
+            this.reads = statistics.getReadCount();
+            this.readBytes = statistics.getReadBytes();
+            this.readMillis = millis(statistics.getReadNanos());
+            this.parses = statistics.getParseCount();
+            this.parsedLines = statistics.getParsedLines();
+            this.parseMillis = millis(statistics.getParseNanos());
+            this.lookupHits = statistics.getHits();
+            this.lookupMisses = statistics.getMisses();
+        }
+    }
+
+    /**
+     * Outcome of an on-demand reload.
+     */
+    @Getter
+    public static final class ReloadDescriptor {
+
+        private final List<String> changedKeys;
+
+        private final int entries;
+
+        private final double durationMillis;
+
+        private ReloadDescriptor(List<String> changedKeys, int entries, double durationMillis) {
+            this.changedKeys = changedKeys;
+            this.entries = entries;
+            this.durationMillis = durationMillis;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package one.stayfocused.spring.dotenv.aot;
+
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+import org.springframework.aot.AotDetector;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Access to the dotenv variables baked into the application during AOT processing.
+ * <p>
+ * With {@code dotenv.aot-bake=true}, {@link DotenvBakingAotProcessor} generates a class holding the
+ * variables of the {@code .env} files found at build time as constants. When the application runs with
+ * its AOT-generated artifacts, those variables are used as they are, without reading or parsing any file.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public final class DotenvBakedValues {
+
+    /** Fully qualified name of the generated class. */
+    public static final String GENERATED_CLASS_NAME = DotenvBakedValues.class.getName() + "__Generated";
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted
+     */
+    private DotenvBakedValues() {
+        throw new UnsupportedOperationException("DotenvBakedValues is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Returns the baked variables, if the application runs with AOT-generated artifacts that contain them.
+     *
+     * @param classLoader the class loader to look the generated class up with
+     * @return the variables of each file keyed by its path, or {@code null} if none were baked
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Map<String, String>> find(ClassLoader classLoader) {
+        if (!AotDetector.useGeneratedArtifacts() || !ClassUtils.isPresent(GENERATED_CLASS_NAME, classLoader)) {
+            return null;
+        }
+        try {
+            Class<?> generatedClass = ClassUtils.forName(GENERATED_CLASS_NAME, classLoader);
+            return ((Supplier<Map<String, Map<String, String>>>) generatedClass.getConstructor().newInstance()).get();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new DotenvParseException("Failed to load baked dotenv variables from " + GENERATED_CLASS_NAME, e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package one.stayfocused.spring.dotenv.aot;
+
+import lombok.extern.slf4j.Slf4j;
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.javapoet.ArrayTypeName;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.FieldSpec;
+import org.springframework.javapoet.JavaFile;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.lang.NonNull;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.isAotBakeEnabled;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.isEnable;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.isFailOnMissing;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} that bakes the {@code .env} variables into the application.
+ * <p>
+ * With {@code dotenv.aot-bake=true} at build time, the configured {@code .env} files are parsed during AOT
+ * processing and a class holding their variables as constants is generated. At runtime, the post-processor
+ * uses that class instead of the files, see {@link DotenvBakedValues}. The variables of each file are packed
+ * into a few string constants of bounded size and split again when the class is loaded, so large files
+ * exceed neither the size limit of a method nor the constant pool of the class.
+ * </p>
+ * <p>
+ * Values are baked as written. With {@code dotenv.interpolate=true}, their references are resolved when the
+ * application starts, so variables of the build machine's environment never end up in the binary.
+ * </p>
+ * <p>
+ * Baked values are visible to anyone with access to the binary, so this mode is not meant for secrets.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public class DotenvBakingAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    /**
+     * Maximum size in bytes of a chunk of packed variables. A string constant holds at most 65,535 bytes of
+     * modified UTF-8, minus room for the low surrogate that may follow the last character of a chunk.
+     */
+    private static final int CHUNK_BYTES = 65_535 - 3;
+
+    private static final TypeName STRING_ARRAY = ArrayTypeName.of(String.class);
+
+    private static final TypeName VARIABLES = ParameterizedTypeName.get(Map.class, String.class, String.class);
+
+    private static final TypeName LAYERS = ParameterizedTypeName.get(ClassName.get(Map.class),
+            ClassName.get(String.class), VARIABLES);
+
+    /**
+     * Constructs a new {@code DotenvBakingAotProcessor}.
+     */
+    public DotenvBakingAotProcessor() {
+        // No initialization needed
+    }
+
+    /**
+     * Parses the {@code .env} files if baking is enabled and contributes the generated class.
+     *
+     * @param beanFactory the bean factory being processed
+     * @return the contribution, or {@code null} if baking is disabled
+     */
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(@NonNull ConfigurableListableBeanFactory beanFactory) {
+        Environment environment = beanFactory.getBeanProvider(Environment.class).getIfAvailable();
+        if (environment == null || !isEnable(environment) || !isAotBakeEnabled(environment)) {
+            return null;
+        }
+
+        // Interpolating here would resolve references against the environment of the build machine
+        Map<String, Map<String, String>> layers = DotenvLoader.loadRawLayers(environment,
+                DotenvLoader.createParser(environment), isFailOnMissing(environment));
+        log.info("[Dotenv] Baking {} into {}", layers.keySet(), DotenvBakedValues.GENERATED_CLASS_NAME);
+        return (generationContext, beanFactoryInitializationCode) -> contribute(generationContext, layers);
+    }
+
+    private static void contribute(GenerationContext generationContext, Map<String, Map<String, String>> layers) {
+        generationContext.getGeneratedFiles().addSourceFile(generate(layers));
+        generationContext.getRuntimeHints().reflection().registerType(
+                TypeReference.of(DotenvBakedValues.GENERATED_CLASS_NAME), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+
+    /**
+     * Generates the source of the class holding the given variables.
+     *
+     * @param layers the variables of each file keyed by its path, from lowest to highest precedence
+     * @return the generated source file
+     */
+    static JavaFile generate(Map<String, Map<String, String>> layers) {
+        ClassName className = ClassName.bestGuess(DotenvBakedValues.GENERATED_CLASS_NAME);
+        TypeSpec.Builder type = TypeSpec.classBuilder(className)
+                .addJavadoc("Dotenv variables baked during AOT processing.")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(Supplier.class), LAYERS))
+                .addField(FieldSpec.builder(LAYERS, "LAYERS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("layers()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(LAYERS)
+                        .addStatement("return LAYERS")
+                        .build());
+
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T layers = new $T<>()", LAYERS, LinkedHashMap.class);
+        for (Map.Entry<String, Map<String, String>> layer : layers.entrySet()) {
+            List<CodeBlock> chunks = new ArrayList<>();
+            for (String chunk : pack(layer.getValue())) {
+                chunks.add(CodeBlock.of("$S", chunk));
+            }
+            body.addStatement("layers.put($S, variables($L))", layer.getKey(), CodeBlock.join(chunks, ", "));
+        }
+        body.addStatement("return $T.unmodifiableMap(layers)", Collections.class);
+
+        type.addMethod(MethodSpec.methodBuilder("layers")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(LAYERS)
+                        .addCode(body.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("variables")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(VARIABLES)
+                        .addParameter(STRING_ARRAY, "chunks")
+                        .varargs()
+                        .addStatement("$T packed = $T.join(\"\", chunks)", String.class, String.class)
+                        .addStatement("$T variables = new $T<>()", VARIABLES, HashMap.class)
+                        .addStatement("$T key = null", String.class)
+                        .beginControlFlow("for (int start = 0; start < packed.length(); )")
+                        .addStatement("int separator = packed.indexOf(':', start)")
+                        .addStatement("int end = separator + 1 + $T.parseInt(packed, start, separator, 10)",
+                                Integer.class)
+                        .addStatement("$T text = packed.substring(separator + 1, end)", String.class)
+                        .beginControlFlow("if (key == null)")
+                        .addStatement("key = text")
+                        .nextControlFlow("else")
+                        .addStatement("variables.put(key, text)")
+                        .addStatement("key = null")
+                        .endControlFlow()
+                        .addStatement("start = end")
+                        .endControlFlow()
+                        .addStatement("return variables")
+                        .build());
+
+        return JavaFile.builder(className.packageName(), type.build()).build();
+    }
+
+    /**
+     * Packs the given variables into strings that each fit into a single constant of a class file.
+     * <p>
+     * Every key and value is written as its length, a colon and itself, so any character may appear in them.
+     * A chunk is split before its modified UTF-8 encoding exceeds the constant size limit, but never inside
+     * a surrogate pair, since the generated source could not represent its halves.
+     * </p>
+     *
+     * @param variables the variables to pack
+     * @return the chunks to join at runtime
+     */
+    static List<String> pack(Map<String, String> variables) {
+        StringBuilder packed = new StringBuilder();
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            packed.append(entry.getKey().length()).append(':').append(entry.getKey())
+                    .append(entry.getValue().length()).append(':').append(entry.getValue());
+        }
+
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        int bytes = 0;
+        for (int i = 0; i < packed.length(); i++) {
+            char c = packed.charAt(i);
+            int size = c != 0 && c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+            if (bytes + size > CHUNK_BYTES && !Character.isLowSurrogate(c)) {
+                chunks.add(packed.substring(start, i));
+                start = i;
+                bytes = 0;
+            }
+            bytes += size;
+        }
+        if (start < packed.length() || chunks.isEmpty()) {
+            chunks.add(packed.substring(start));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,47 @@
+package one.stayfocused.spring.dotenv.aot;
+
+import one.stayfocused.spring.dotenv.config.DotenvProperties;
+import one.stayfocused.spring.dotenv.environment.DotenvEnvironmentPostProcessor;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RuntimeHintsRegistrar} for running Dotenv in a GraalVM native image.
+ * <p>
+ * Registers the post-processor instantiated from {@code META-INF/spring.factories}, the property
+ * source and the binding of {@link DotenvProperties}, so native builds need no hand-written
+ * reflection configuration.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class DotenvRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Constructs a new {@code DotenvRuntimeHints}.
+     */
+    public DotenvRuntimeHints() {
+        // No initialization needed
+    }
+
+    /**
+     * Registers the hints.
+     *
+     * @param hints       the hints to contribute to
+     * @param classLoader the class loader, if any
+     */
+    @Override
+    public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.reflection().registerType(DotenvEnvironmentPostProcessor.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(DotenvPropertySource.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        BindableRuntimeHintsRegistrar.forTypes(DotenvProperties.class).registerHints(hints, classLoader);
+    }
+}
@@ -0,0 +1,236 @@
+package one.stayfocused.spring.dotenv.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import one.stayfocused.spring.dotenv.actuator.DotenvEndpoint;
+import one.stayfocused.spring.dotenv.core.DefaultEnvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.core.DotenvValueStorage;
+import one.stayfocused.spring.dotenv.core.EnvLoader;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.environment.LazyDotenvPropertySource;
+import one.stayfocused.spring.dotenv.metrics.DotenvMetrics;
+import one.stayfocused.spring.dotenv.reload.DotenvConfigurationPropertiesRebinder;
+import one.stayfocused.spring.dotenv.reload.DotenvFileWatcher;
+import one.stayfocused.spring.dotenv.reload.DotenvReloader;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.DOTENV_RELOAD_KEY;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.getValueStorage;
+
+/**
+ * Autoconfiguration for Dotenv support in Spring Boot.
+ * <p>
+ * Enables loading of {@code .env} files and registers related components. Every bean is declared
+ * explicitly, so the library's packages are never scanned, and each one backs off when the application
+ * defines its own or when the feature it serves is disabled.
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(DotenvProperties.class)
+public class DotenvAutoConfiguration {
+
+    /**
+     * Constructs a new {@code DotenvAutoConfiguration}.
+     */
+    public DotenvAutoConfiguration() {
+        // No initialization needed
+    }
+
+    /**
+     * Registers the loader of {@code .env} files for applications that load them on demand.
+     *
+     * @return the loader
+     */
+    @Bean
+    @ConditionalOnMissingBean(EnvLoader.class)
+    public DefaultEnvLoader defaultEnvLoader() {
+        return new DefaultEnvLoader();
+    }
+
+    /**
+     * Registers the logger of the dotenv configuration, which reports it once the application is ready.
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment}
+     * @return the logger
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DotenvLogger dotenvLogger(ConfigurableEnvironment environment) {
+        return new DotenvLogger(environment);
+    }
+
+    /**
+     * Registers the reloader shared by all reload triggers when {@code dotenv.reload=true}, so that reloads
+     * are serialized. The endpoint configuration registers it as well when the endpoint can trigger reloads.
+     *
+     * @param environment    the Spring {@link ConfigurableEnvironment}
+     * @param eventPublisher the publisher for reload events
+     * @return the reloader
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = DOTENV_RELOAD_KEY, havingValue = "true")
+    public DotenvReloader dotenvReloader(ConfigurableEnvironment environment, ApplicationEventPublisher eventPublisher) {
+        return createReloader(environment, eventPublisher);
+    }
+
+    /**
+     * Registers the watcher that reloads the {@code .env} file when {@code dotenv.reload=true}.
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment}
+     * @param properties  the dotenv configuration
+     * @param reloader    the shared reloader
+     * @return the file watcher
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = DOTENV_RELOAD_KEY, havingValue = "true")
+    public DotenvFileWatcher dotenvFileWatcher(ConfigurableEnvironment environment, DotenvProperties properties,
+                                               DotenvReloader reloader) {
+        return new DotenvFileWatcher(environment, properties, reloader);
+    }
+
+    /**
+     * Registers the listener that rebinds the {@code @ConfigurationProperties} beans affected by a reload
+     * when {@code dotenv.reload=true}. The endpoint configuration registers it as well when the endpoint
+     * can trigger reloads.
+     *
+     * @return the rebinder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = DOTENV_RELOAD_KEY, havingValue = "true")
+    public DotenvConfigurationPropertiesRebinder dotenvConfigurationPropertiesRebinder() {
+        return new DotenvConfigurationPropertiesRebinder();
+    }
+
+    /**
+     * Registers the callback that zeroes off-heap values when the context is closed, for
+     * {@code dotenv.value-storage=off-heap-zeroed}. Beans reading dotenv variables while being destroyed
+     * should copy them beforehand.
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment}
+     * @return the callback releasing the dotenv property source
+     */
+    @Bean
+    @Conditional(OnZeroedValueStorageCondition.class)
+    public DisposableBean dotenvValueReleaser(ConfigurableEnvironment environment) {
+        return () -> {
+            if (environment.getPropertySources().get(PROPERTY_SOURCE_NAME) instanceof DotenvPropertySource propertySource) {
+                propertySource.release();
+            }
+        };
+    }
+
+    /**
+     * Exports dotenv metrics when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class DotenvMetricsConfiguration {
+
+        /**
+         * Registers the binder of the dotenv meters.
+         *
+         * @param environment the Spring {@link ConfigurableEnvironment}
+         * @return the meter binder
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        DotenvMetrics dotenvMetrics(ConfigurableEnvironment environment) {
+            return new DotenvMetrics(environment);
+        }
+    }
+
+    /**
+     * Exposes the dotenv actuator endpoint when Spring Boot Actuator is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+    static class DotenvEndpointConfiguration {
+
+        /**
+         * Registers the reloader shared by all reload triggers when the endpoint can trigger reloads.
+         *
+         * @param environment    the Spring {@link ConfigurableEnvironment}
+         * @param eventPublisher the publisher for reload events
+         * @return the reloader
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint(endpoint = DotenvEndpoint.class)
+        DotenvReloader dotenvReloader(ConfigurableEnvironment environment, ApplicationEventPublisher eventPublisher) {
+            return createReloader(environment, eventPublisher);
+        }
+
+        /**
+         * Registers the {@code dotenv} endpoint.
+         *
+         * @param environment the Spring {@link ConfigurableEnvironment}
+         * @param reloader    the shared reloader
+         * @return the endpoint
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint
+        DotenvEndpoint dotenvEndpoint(ConfigurableEnvironment environment, DotenvReloader reloader) {
+            return new DotenvEndpoint(environment, reloader);
+        }
+
+        /**
+         * Registers the listener that rebinds the {@code @ConfigurationProperties} beans affected by a reload
+         * triggered through the endpoint.
+         *
+         * @return the rebinder
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint(endpoint = DotenvEndpoint.class)
+        DotenvConfigurationPropertiesRebinder dotenvConfigurationPropertiesRebinder() {
+            return new DotenvConfigurationPropertiesRebinder();
+        }
+    }
+
+    private static DotenvReloader createReloader(ConfigurableEnvironment environment,
+                                                 ApplicationEventPublisher eventPublisher) {
+        // Looking the lazy source up would load the files, while its statistics are available before
+        PropertySource<?> propertySource = environment.getPropertySources().get(PROPERTY_SOURCE_NAME);
+        DotenvStatistics statistics = propertySource instanceof LazyDotenvPropertySource lazy ? lazy.getStatistics()
+                : propertySource instanceof DotenvPropertySource dotenv ? dotenv.getStatistics() : null;
+        return new DotenvReloader(environment, eventPublisher, DotenvLoader.createReloadParser(environment, statistics));
+    }
+
+    /**
+     * Matches when {@code dotenv.value-storage} is {@code off-heap-zeroed}, written in any of the forms
+     * {@link DotenvValueStorage#of(String)} accepts.
+     */
+    static class OnZeroedValueStorageCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            DotenvValueStorage valueStorage = getValueStorage(context.getEnvironment());
+            return valueStorage == DotenvValueStorage.OFF_HEAP_ZEROED
+                    ? ConditionOutcome.match("dotenv.value-storage is " + valueStorage)
+                    : ConditionOutcome.noMatch("dotenv.value-storage is " + valueStorage);
+        }
+    }
+}
@@ -5,7 +5,6 @@ import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Optional;
@@ -14,9 +13,11 @@ import static one.stayfocused.spring.dotenv.core.DotenvUtils.*;
 
 /**
  * Logs Dotenv configuration details on application startup.
+ * <p>
+ * Registered as a bean by {@link DotenvAutoConfiguration} unless the application defines its own.
+ * </p>
  */
 @Slf4j
-@Component
 public class DotenvLogger {
 
     private final ConfigurableEnvironment environment;
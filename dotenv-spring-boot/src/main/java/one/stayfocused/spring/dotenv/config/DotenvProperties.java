@@ -0,0 +1,149 @@
+package one.stayfocused.spring.dotenv.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import one.stayfocused.spring.dotenv.core.DotenvValueStorage;
+import one.stayfocused.spring.dotenv.core.SnapshotEnvParser;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Dotenv settings under the {@code dotenv} prefix.
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "dotenv")
+public class DotenvProperties {
+
+    /**
+     * Constructs a new {@code DotenvProperties} with default values.
+     */
+    public DotenvProperties() {
+        // Defaults are set via field initializers
+    }
+
+    /**
+     * Whether to enable loading of the {@code .env} file. Defaults to {@code true}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Path to the {@code .env} file, or a comma-separated list of files where later ones take precedence.
+     * Defaults to {@code .env}.
+     */
+    private String path = ".env";
+
+    /**
+     * Priority of dotenv variables ({@code high} or {@code low}). Defaults to {@code low}.
+     */
+    private String priority = "low";
+
+    /**
+     * Whether to fail if the {@code .env} file is missing. Defaults to {@code false}.
+     */
+    private boolean failOnMissing = false;
+
+    /**
+     * Whether to also load the optional {@code .local}, {@code .{profile}} and {@code .{profile}.local}
+     * variants of each configured file, in that order of increasing precedence. Defaults to {@code false}.
+     */
+    private boolean layered = false;
+
+    /**
+     * Directory, or comma-separated list of directories, holding one file per variable, as Kubernetes
+     * mounts secrets. File names are variable names and file contents are values. Config trees take
+     * precedence over {@code .env} files. Not set by default.
+     */
+    private String configTree;
+
+    /**
+     * Whether to resolve {@code ${NAME}} references to other dotenv variables and OS environment
+     * variables once at load time, instead of on every property lookup. Defaults to {@code false}.
+     */
+    private boolean interpolate = false;
+
+    /**
+     * File holding the Base64 encoded AES key used to decrypt {@code ENC(...)} values on first access.
+     * Not set by default.
+     */
+    private String keyfile;
+
+    /**
+     * Whether to read the {@code .env} files only when a property lookup first reaches them, instead of at
+     * startup. Ignored when {@code dotenv.reload=true}. Defaults to {@code false}.
+     */
+    private boolean lazy = false;
+
+    /**
+     * Whether variables written in OS style, such as {@code SPRING_DATASOURCE_URL}, are also found under
+     * their canonical property name, such as {@code spring.datasource.url}. Defaults to {@code false}.
+     */
+    private boolean relaxedAliases = false;
+
+    /**
+     * Where values are kept once loaded: {@code heap}, {@code off-heap} for a direct buffer read on every
+     * lookup, or {@code off-heap-zeroed} to also overwrite that buffer on reload and shutdown. Off-heap
+     * storage disables the shared parse cache. Defaults to {@code heap}.
+     */
+    private DotenvValueStorage valueStorage = DotenvValueStorage.HEAP;
+
+    /**
+     * Whether to reload the {@code .env} file when it changes on disk. Defaults to {@code false}.
+     */
+    private boolean reload = false;
+
+    /**
+     * Whether a reload reparses only the lines that changed since the previous reload, instead of whole
+     * files. Ignored when values are stored off the heap. Defaults to {@code true}.
+     */
+    private boolean incrementalReload = true;
+
+    /**
+     * Quiet period to wait for after a change before reloading, so bursts of writes are applied once.
+     * Defaults to 500 milliseconds.
+     */
+    private Duration reloadDebounce = Duration.ofMillis(500);
+
+    /**
+     * Whether to cache parsed {@code .env} files as binary snapshots on disk, so unchanged files
+     * are not parsed again on the next start. Defaults to {@code false}.
+     */
+    private boolean snapshot = false;
+
+    /**
+     * Directory for snapshots of parsed {@code .env} files, restricted to its owner since snapshots hold
+     * the plain values. Defaults to {@code .cache/dotenv-snapshots} in the user's home directory.
+     */
+    private String snapshotDir = SnapshotEnvParser.DEFAULT_SNAPSHOT_DIRECTORY;
+
+    /**
+     * Whether parsed {@code .env} files are kept in memory and shared by all application contexts of the JVM,
+     * such as the contexts of a test suite or DevTools restarts, as long as the files are unchanged.
+     * Cached values stay on the heap until the JVM exits, and files served from the cache are not counted
+     * in the read and parse statistics. Defaults to {@code false}.
+     */
+    private boolean sharedCache = false;
+
+    /**
+     * Size from which a {@code .env} file is split at line boundaries and parsed in parallel.
+     * Defaults to 1 megabyte.
+     */
+    private DataSize parallelThreshold = DataSize.ofMegabytes(1);
+
+    /**
+     * Whether to count lookups of every dotenv variable separately, exported as the
+     * {@code dotenv.lookups.key} metric. Defaults to {@code false}.
+     */
+    private boolean metricsPerKey = false;
+
+    /**
+     * Whether to parse the {@code .env} files during AOT processing and bake their variables into the
+     * application, so native images start without reading or parsing any file. Defaults to {@code false}.
+     */
+    private boolean aotBake = false;
+}
@@ -1,13 +1,15 @@
 package one.stayfocused.spring.dotenv.core;
 
 import org.springframework.core.env.Environment;
-import org.springframework.stereotype.Component;
 import java.util.Map;
 
 /**
  * Default {@link EnvLoader} implementation using {@link DotenvLoader} to load {@code .env} files.
+ * <p>
+ * Registered as a bean by {@link one.stayfocused.spring.dotenv.config.DotenvAutoConfiguration} unless the
+ * application defines its own {@link EnvLoader}.
+ * </p>
  */
-@Component
 public class DefaultEnvLoader implements EnvLoader {
 
     private final EnvParser parser;
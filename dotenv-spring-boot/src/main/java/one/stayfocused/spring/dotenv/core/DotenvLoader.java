@@ -0,0 +1,228 @@
+package one.stayfocused.spring.dotenv.core;
+
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.*;
+
+/**
+ * Utility class for loading environment variables from the {@code .env} files configured in a Spring {@link Environment}.
+ * <p>
+ * Resolves the {@code dotenv.*} settings of the environment and hands the files to {@link DotenvFiles},
+ * which reads and parses them, returning variables as a {@link Map}. Not instantiable.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class DotenvLoader {
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted
+     */
+    private DotenvLoader() {
+        throw new UnsupportedOperationException("DotenvLoader is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Loads environment variables from a {@code .env} file using the configured parser.
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @return a map of environment variables
+     * @throws DotenvFileNotFoundException if the file is missing and {@code dotenv.fail-on-missing} is enabled
+     */
+    public static Map<String, String> load(Environment environment) {
+        return load(environment, createParser(environment));
+    }
+
+    /**
+     * Creates the parser configured in the environment.
+     * <p>
+     * This is a {@link DotenvParser}, wrapped in a {@link SnapshotEnvParser} when {@code dotenv.snapshot=true}
+     * and in a {@link SharedCacheEnvParser} when {@code dotenv.shared-cache=true}.
+     * </p>
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @return the parser for {@code .env} files
+     */
+    public static EnvParser createParser(Environment environment) {
+        return createParser(environment, null);
+    }
+
+    /**
+     * Creates the parser configured in the environment, recording into the given statistics.
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param statistics  the statistics updated for every parsed file, or {@code null} to record nothing
+     * @return the parser for {@code .env} files
+     */
+    public static EnvParser createParser(Environment environment, DotenvStatistics statistics) {
+        EnvParser parser = decorate(environment, new DotenvParser(statistics, getParallelThreshold(environment)));
+        // Cached files would keep their values on the heap for the lifetime of the JVM
+        if (isSharedCacheEnabled(environment) && !getValueStorage(environment).isOffHeap()) {
+            parser = new SharedCacheEnvParser(parser);
+        }
+        return parser;
+    }
+
+    /**
+     * Creates the parser for reloading changed files, recording into the given statistics.
+     * <p>
+     * Like {@link #createParser(Environment, DotenvStatistics)}, except that the {@link DotenvParser} is wrapped
+     * in an {@link IncrementalEnvParser} unless {@code dotenv.incremental-reload=false} or values are stored
+     * off the heap, since the parser keeps the values of the lines it recorded. The shared cache is never used,
+     * so a reload always reads the files again.
+     * </p>
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param statistics  the statistics updated for every parsed file, or {@code null} to record nothing
+     * @return the parser for reloading {@code .env} files
+     */
+    public static EnvParser createReloadParser(Environment environment, DotenvStatistics statistics) {
+        DotenvParser parser = new DotenvParser(statistics, getParallelThreshold(environment));
+        if (!isIncrementalReload(environment) || getValueStorage(environment).isOffHeap()) {
+            return decorate(environment, parser);
+        }
+        return decorate(environment, new IncrementalEnvParser(parser, statistics));
+    }
+
+    private static EnvParser decorate(Environment environment, EnvParser parser) {
+        if (isSnapshotEnabled(environment)) {
+            parser = new SnapshotEnvParser(parser, Paths.get(getSnapshotDirectory(environment)));
+        }
+        return parser;
+    }
+
+    /**
+     * Creates the cipher for decrypting {@code ENC(...)} values.
+     * <p>
+     * The first {@link DotenvCipher} registered in {@code META-INF/spring.factories} is used. Otherwise,
+     * a {@link KeyfileDotenvCipher} is created when {@code dotenv.keyfile} is set.
+     * </p>
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param classLoader the class loader to look registered ciphers up with
+     * @return the cipher, or {@code null} if none is configured
+     */
+    public static DotenvCipher createCipher(Environment environment, ClassLoader classLoader) {
+        List<DotenvCipher> ciphers = SpringFactoriesLoader.forDefaultResourceLocation(classLoader)
+                .load(DotenvCipher.class, SpringFactoriesLoader.ArgumentResolver.of(Environment.class, environment));
+        if (!ciphers.isEmpty()) {
+            return ciphers.get(0);
+        }
+        String keyfile = getKeyfile(environment);
+        return StringUtils.hasText(keyfile) ? new KeyfileDotenvCipher(Paths.get(keyfile)) : null;
+    }
+
+    /**
+     * Loads environment variables from {@code .env} files based on the application's configuration.
+     * <p>
+     * Uses the files resolved by {@link DotenvUtils#getDotenvLocations(Environment)} and merges them,
+     * later files overriding earlier ones.
+     * Throws an exception if a configured file is missing and {@code dotenv.fail-on-missing=true}.
+     * </p>
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param parser the parser to use for the {@code .env} files
+     * @return a map of environment variables
+     * @throws DotenvFileNotFoundException if a file is missing and {@code dotenv.fail-on-missing} is enabled
+     */
+    public static Map<String, String> load(Environment environment, EnvParser parser) {
+        return DotenvFiles.merge(loadLayers(environment, parser));
+    }
+
+    /**
+     * Loads every configured {@code .env} file separately, using the configured parser.
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @return the variables of each existing file keyed by its path, from lowest to highest precedence
+     * @throws DotenvFileNotFoundException if a file is missing and {@code dotenv.fail-on-missing} is enabled
+     */
+    public static Map<String, Map<String, String>> loadLayers(Environment environment) {
+        return loadLayers(environment, createParser(environment));
+    }
+
+    /**
+     * Loads every configured {@code .env} file separately.
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param parser the parser to use for the {@code .env} files
+     * @return the variables of each existing file keyed by its path, from lowest to highest precedence
+     * @throws DotenvFileNotFoundException if a file is missing and {@code dotenv.fail-on-missing} is enabled
+     */
+    public static Map<String, Map<String, String>> loadLayers(Environment environment, EnvParser parser) {
+        return loadLayers(environment, parser, isFailOnMissing(environment));
+    }
+
+    /**
+     * Loads every configured {@code .env} file separately, overriding {@code dotenv.fail-on-missing}.
+     * <p>
+     * Directories configured with {@code dotenv.config-tree} are loaded after the files and take
+     * precedence over them, see {@link DotenvFiles#loadConfigTree(String, boolean)}.
+     * </p>
+     * <p>
+     * With {@code dotenv.interpolate=true}, references between values are resolved against the
+     * merged variables and the OS environment, see {@link DotenvInterpolator}.
+     * </p>
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param parser the parser to use for the {@code .env} files
+     * @param failOnMissing whether to throw an exception if a configured file is missing
+     * @return the variables of each existing file keyed by its path, from lowest to highest precedence
+     * @throws DotenvFileNotFoundException if a file is missing and {@code failOnMissing} is true
+     * @throws DotenvParseException if a file cannot be read or variables reference each other in a cycle
+     */
+    public static Map<String, Map<String, String>> loadLayers(Environment environment, EnvParser parser,
+                                                              boolean failOnMissing) {
+        return interpolate(environment, loadRawLayers(environment, parser, failOnMissing));
+    }
+
+    /**
+     * Loads every configured {@code .env} file and config tree separately, leaving references between values
+     * unresolved whatever {@code dotenv.interpolate} says.
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param parser the parser to use for the {@code .env} files
+     * @param failOnMissing whether to throw an exception if a configured file is missing
+     * @return the raw variables of each existing file keyed by its path, from lowest to highest precedence
+     * @throws DotenvFileNotFoundException if a file is missing and {@code failOnMissing} is true
+     * @throws DotenvParseException if a file cannot be read
+     */
+    public static Map<String, Map<String, String>> loadRawLayers(Environment environment, EnvParser parser,
+                                                                 boolean failOnMissing) {
+        Map<String, Map<String, String>> layers = DotenvFiles.loadLayers(getDotenvLocations(environment),
+                failOnMissing, parser);
+        List<String> configTrees = getConfigTreeDirectories(environment);
+        if (!configTrees.isEmpty()) {
+            layers = new LinkedHashMap<>(layers);
+            for (String directory : configTrees) {
+                layers.putAll(DotenvFiles.loadConfigTree(directory, failOnMissing));
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * Resolves references between values against the merged variables and the OS environment of the
+     * running process if {@code dotenv.interpolate=true}, see {@link DotenvInterpolator}.
+     *
+     * @param environment the Spring {@link Environment} to retrieve configuration from
+     * @param layers the raw variables of each file, from lowest to highest precedence
+     * @return the resolved variables of each file, or the given ones if interpolation is disabled
+     * @throws DotenvParseException if variables reference each other in a cycle
+     */
+    public static Map<String, Map<String, String>> interpolate(Environment environment,
+                                                               Map<String, Map<String, String>> layers) {
+        return isInterpolationEnabled(environment) ? DotenvInterpolator.interpolateLayers(layers, System::getenv) : layers;
+    }
+}
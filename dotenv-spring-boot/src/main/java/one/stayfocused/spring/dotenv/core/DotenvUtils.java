@@ -0,0 +1,423 @@
+package one.stayfocused.spring.dotenv.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for managing {@code .env} file configuration in Spring Boot applications.
+ *
+ * <p>This class provides helper methods for retrieving configuration properties
+ * and handling environment-specific settings related to {@code .env} file loading.</p>
+ *
+ * <p><b>Key Features:</b></p>
+ * <ul>
+ *     <li>Retrieves properties from the Spring {@link Environment}.</li>
+ *     <li>Handles default values for various dotenv settings.</li>
+ *     <li>Determines if dotenv should be enabled, reloaded, or prioritized.</li>
+ *     <li>Logs warnings for missing {@code .env} files when required.</li>
+ * </ul>
+ *
+ * <p>This is a final utility class and cannot be instantiated.</p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public final class DotenvUtils {
+
+    /** The name of the PropertySource for dotenv variables. */
+    public static final String PROPERTY_SOURCE_NAME = "dotenv";
+
+    /** Key for specifying the dotenv file path. */
+    public static final String DOTENV_PATH_KEY = "dotenv.path";
+
+    /** Key for enabling or disabling dotenv support. */
+    public static final String DOTENV_ENABLED_KEY = "dotenv.enabled";
+
+    /** Key for enforcing failure when the `.env` file is missing. */
+    public static final String DOTENV_FAIL_ON_MISSING_KEY = "dotenv.fail-on-missing";
+
+    /** Key for determining dotenv property priority. */
+    public static final String DOTENV_PRIORITY_KEY = "dotenv.priority";
+
+    /** Key for enabling reloading of the dotenv file when it changes. */
+    public static final String DOTENV_RELOAD_KEY = "dotenv.reload";
+
+    /** Key for enabling layered loading of {@code .local} and profile-specific dotenv files. */
+    public static final String DOTENV_LAYERED_KEY = "dotenv.layered";
+
+    /** Key for resolving {@code ${NAME}} references inside dotenv values at load time. */
+    public static final String DOTENV_INTERPOLATE_KEY = "dotenv.interpolate";
+
+    /** Key for enabling the on-disk snapshot cache of parsed dotenv files. */
+    public static final String DOTENV_SNAPSHOT_KEY = "dotenv.snapshot";
+
+    /** Key for the directory holding snapshots of parsed dotenv files. */
+    public static final String DOTENV_SNAPSHOT_DIR_KEY = "dotenv.snapshot-dir";
+
+    /** Key for counting lookups of every dotenv variable separately. */
+    public static final String DOTENV_METRICS_PER_KEY_KEY = "dotenv.metrics-per-key";
+
+    /** Key for directories holding one file per variable, such as Kubernetes secret mounts. */
+    public static final String DOTENV_CONFIG_TREE_KEY = "dotenv.config-tree";
+
+    /** Key for the file holding the key of the built-in cipher for {@code ENC(...)} values. */
+    public static final String DOTENV_KEYFILE_KEY = "dotenv.keyfile";
+
+    /** Key for sharing parsed dotenv files across all application contexts of the JVM. */
+    public static final String DOTENV_SHARED_CACHE_KEY = "dotenv.shared-cache";
+
+    /** Key for indexing environment-style dotenv variables under their canonical property names. */
+    public static final String DOTENV_RELAXED_ALIASES_KEY = "dotenv.relaxed-aliases";
+
+    /** Key for deferring loading of dotenv files until the first lookup reaching them. */
+    public static final String DOTENV_LAZY_KEY = "dotenv.lazy";
+
+    /** Key for reparsing only the changed lines of dotenv files on reload. */
+    public static final String DOTENV_INCREMENTAL_RELOAD_KEY = "dotenv.incremental-reload";
+
+    /** Key for where the values of dotenv variables are kept once loaded. */
+    public static final String DOTENV_VALUE_STORAGE_KEY = "dotenv.value-storage";
+
+    /** Key for the size from which dotenv files are parsed in parallel. */
+    public static final String DOTENV_PARALLEL_THRESHOLD_KEY = "dotenv.parallel-threshold";
+
+    /** Key for baking dotenv variables into the application during AOT processing. */
+    public static final String DOTENV_AOT_BAKE_KEY = "dotenv.aot-bake";
+
+    /** Default priority level for dotenv properties. */
+    public static final String DEFAULT_DOTENV_PRIORITY = "low";
+
+    /** Default value for enabling dotenv support. */
+    public static final boolean DEFAULT_DOTENV_ENABLED = true;
+
+    /** Default value for enforcing failure on missing dotenv file. */
+    public static final boolean DEFAULT_FAIL_ON_MISSING = false;
+
+    /** Default value for reloading the dotenv file when it changes. */
+    public static final boolean DEFAULT_DOTENV_RELOAD = false;
+
+    /** Default value for layered loading of dotenv files. */
+    public static final boolean DEFAULT_DOTENV_LAYERED = false;
+
+    /** Default value for resolving references inside dotenv values at load time. */
+    public static final boolean DEFAULT_DOTENV_INTERPOLATE = false;
+
+    /** Default value for the on-disk snapshot cache of parsed dotenv files. */
+    public static final boolean DEFAULT_DOTENV_SNAPSHOT = false;
+
+    /** Default directory for snapshots of parsed dotenv files, below the cache directory of the user. */
+    public static final String DEFAULT_DOTENV_SNAPSHOT_DIR = SnapshotEnvParser.DEFAULT_SNAPSHOT_DIRECTORY;
+
+    /** Default value for counting lookups of every dotenv variable separately. */
+    public static final boolean DEFAULT_DOTENV_METRICS_PER_KEY = false;
+
+    /** Default value for baking dotenv variables into the application during AOT processing. */
+    public static final boolean DEFAULT_DOTENV_AOT_BAKE = false;
+
+    /** Default value for sharing parsed dotenv files across all application contexts of the JVM. */
+    public static final boolean DEFAULT_DOTENV_SHARED_CACHE = false;
+
+    /** Default value for indexing environment-style dotenv variables under their canonical property names. */
+    public static final boolean DEFAULT_DOTENV_RELAXED_ALIASES = false;
+
+    /** Default value for deferring loading of dotenv files until the first lookup reaching them. */
+    public static final boolean DEFAULT_DOTENV_LAZY = false;
+
+    /** Default value for reparsing only the changed lines of dotenv files on reload. */
+    public static final boolean DEFAULT_DOTENV_INCREMENTAL_RELOAD = true;
+
+    /** Default storage of the values of dotenv variables. */
+    public static final DotenvValueStorage DEFAULT_DOTENV_VALUE_STORAGE = DotenvValueStorage.HEAP;
+
+    /** Default size from which dotenv files are parsed in parallel. */
+    public static final DataSize DEFAULT_DOTENV_PARALLEL_THRESHOLD = DataSize.ofBytes(DotenvParser.DEFAULT_PARALLEL_THRESHOLD);
+
+    /** Default path for the {@code .env} file. */
+    public static final String DEFAULT_ENV_PATH = ".env";
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * <p>This class is designed to be a static utility class.</p>
+     *
+     * @throws UnsupportedOperationException if an attempt is made to instantiate this class
+     */
+    private DotenvUtils() {
+        throw new UnsupportedOperationException("DotenvUtils is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Retrieves the dotenv file path from the environment properties.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return the configured dotenv file path, or the default path if not specified
+     */
+    public static String getDotenvPath(Environment environment) {
+        return getStringProperty(environment, DOTENV_PATH_KEY, DEFAULT_ENV_PATH);
+    }
+
+    /**
+     * Resolves the ordered list of dotenv files to load, from lowest to highest precedence.
+     * <p>
+     * {@code dotenv.path} may hold a comma-separated list of files. With {@code dotenv.layered=true},
+     * optional files are derived from each of them and loaded in this order:
+     * </p>
+     * <ol>
+     *     <li>{@code .env} &ndash; every configured file</li>
+     *     <li>{@code .env.local}</li>
+     *     <li>{@code .env.{profile}} for every active profile</li>
+     *     <li>{@code .env.{profile}.local} for every active profile</li>
+     * </ol>
+     *
+     * @param environment the Spring {@link Environment} to retrieve the properties from
+     * @return the locations of the dotenv files, later ones taking precedence
+     */
+    public static List<DotenvLocation> getDotenvLocations(Environment environment) {
+        List<String> paths = new ArrayList<>();
+        for (String path : StringUtils.commaDelimitedListToStringArray(getDotenvPath(environment))) {
+            if (StringUtils.hasText(path)) paths.add(path.trim());
+        }
+
+        Map<String, DotenvLocation> locations = new LinkedHashMap<>();
+        paths.forEach(path -> locations.putIfAbsent(path, DotenvLocation.of(path)));
+        if (isLayered(environment)) {
+            String[] profiles = environment.getActiveProfiles();
+            List<String> derived = new ArrayList<>();
+            paths.forEach(path -> derived.add(path + ".local"));
+            for (String profile : profiles) {
+                paths.forEach(path -> derived.add(path + "." + profile));
+            }
+            for (String profile : profiles) {
+                paths.forEach(path -> derived.add(path + "." + profile + ".local"));
+            }
+            derived.forEach(path -> locations.putIfAbsent(path, DotenvLocation.optional(path)));
+        }
+        return List.copyOf(locations.values());
+    }
+
+    /**
+     * Resolves the config tree directories to load after the dotenv files.
+     * <p>
+     * {@code dotenv.config-tree} may hold a comma-separated list of directories, later ones taking precedence.
+     * </p>
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return the configured directories, or an empty list if none
+     */
+    public static List<String> getConfigTreeDirectories(Environment environment) {
+        List<String> directories = new ArrayList<>();
+        for (String directory : StringUtils.commaDelimitedListToStringArray(environment.getProperty(DOTENV_CONFIG_TREE_KEY))) {
+            if (StringUtils.hasText(directory)) directories.add(directory.trim());
+        }
+        return directories;
+    }
+
+    /**
+     * Retrieves a boolean property from the environment.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @param propertyName the name of the property to retrieve
+     * @param defaultValue the default value to return if the property is not found
+     * @return the boolean value of the property, or the default value if not found
+     */
+    public static boolean getBooleanProperty(Environment environment, String propertyName, boolean defaultValue) {
+        return Boolean.parseBoolean(environment.getProperty(propertyName, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Retrieves a string property from the environment.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @param propertyName the name of the property to retrieve
+     * @param defaultValue the default value to return if the property is not found
+     * @return the string value of the property, or the default value if not found
+     */
+    public static String getStringProperty(Environment environment, String propertyName, String defaultValue) {
+        return environment.getProperty(propertyName, defaultValue);
+    }
+
+    /**
+     * Determines if the dotenv properties should have high priority in the Spring environment.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if dotenv properties should be prioritized, {@code false} otherwise
+     */
+    public static boolean isHighPriority(Environment environment) {
+        return "high".equals(getStringProperty(environment, DOTENV_PRIORITY_KEY, DEFAULT_DOTENV_PRIORITY));
+    }
+
+    /**
+     * Checks if the application should fail when the {@code .env} file is missing.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if the application should fail on a missing {@code .env} file, {@code false} otherwise
+     */
+    public static boolean isFailOnMissing(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_FAIL_ON_MISSING_KEY, DEFAULT_FAIL_ON_MISSING);
+    }
+
+    /**
+     * Checks if {@code .env} file loading is enabled.
+     *
+     * <p>Retrieves the {@code dotenv.enabled} property from the {@link Environment}.
+     * Defaults to {@code true} if not set. Returns {@code true} if the property
+     * is explicitly set to "true".</p>
+     *
+     * @param environment the Spring {@link Environment} containing application properties
+     * @return {@code true} if {@code .env} file loading is enabled, {@code false} otherwise
+     */
+    public static boolean isEnable(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_ENABLED_KEY, DEFAULT_DOTENV_ENABLED);
+    }
+
+    /**
+     * Checks if the {@code .env} file should be reloaded when it changes on disk.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if reloading is enabled, {@code false} otherwise
+     */
+    public static boolean isReloadEnabled(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_RELOAD_KEY, DEFAULT_DOTENV_RELOAD);
+    }
+
+    /**
+     * Checks if {@code .local} and profile-specific dotenv files should be layered on top of the configured ones.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if layered loading is enabled, {@code false} otherwise
+     */
+    public static boolean isLayered(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_LAYERED_KEY, DEFAULT_DOTENV_LAYERED);
+    }
+
+    /**
+     * Checks if parsed dotenv files should be cached as binary snapshots on disk.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if the snapshot cache is enabled, {@code false} otherwise
+     */
+    public static boolean isSnapshotEnabled(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_SNAPSHOT_KEY, DEFAULT_DOTENV_SNAPSHOT);
+    }
+
+    /**
+     * Retrieves the directory for snapshots of parsed dotenv files.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return the configured snapshot directory, or the default directory if not specified
+     */
+    public static String getSnapshotDirectory(Environment environment) {
+        return getStringProperty(environment, DOTENV_SNAPSHOT_DIR_KEY, DEFAULT_DOTENV_SNAPSHOT_DIR);
+    }
+
+    /**
+     * Checks if {@code ${NAME}} references inside dotenv values should be resolved at load time.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if interpolation is enabled, {@code false} otherwise
+     */
+    public static boolean isInterpolationEnabled(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_INTERPOLATE_KEY, DEFAULT_DOTENV_INTERPOLATE);
+    }
+
+    /**
+     * Checks if lookups of every dotenv variable should be counted separately.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if per-key lookup tallies are enabled, {@code false} otherwise
+     */
+    public static boolean isMetricsPerKey(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_METRICS_PER_KEY_KEY, DEFAULT_DOTENV_METRICS_PER_KEY);
+    }
+
+    /**
+     * Checks if dotenv variables should be baked into the application during AOT processing.
+     *
+     * @param environment the Spring {@link Environment} to check
+     * @return {@code true} if AOT baking is enabled, {@code false} otherwise
+     */
+    public static boolean isAotBakeEnabled(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_AOT_BAKE_KEY, DEFAULT_DOTENV_AOT_BAKE);
+    }
+
+    /**
+     * Retrieves the file holding the key for decrypting {@code ENC(...)} values.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return the configured key file, or {@code null} if not specified
+     */
+    public static String getKeyfile(Environment environment) {
+        return environment.getProperty(DOTENV_KEYFILE_KEY);
+    }
+
+    /**
+     * Determines if parsed dotenv files are shared across all application contexts of the JVM.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return {@code true} if the shared cache is enabled, {@code false} otherwise
+     */
+    public static boolean isSharedCacheEnabled(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_SHARED_CACHE_KEY, DEFAULT_DOTENV_SHARED_CACHE);
+    }
+
+    /**
+     * Determines if environment-style dotenv variables are also found under their canonical property names.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return {@code true} if relaxed aliases are enabled, {@code false} otherwise
+     */
+    public static boolean isRelaxedAliases(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_RELAXED_ALIASES_KEY, DEFAULT_DOTENV_RELAXED_ALIASES);
+    }
+
+    /**
+     * Determines if dotenv files are loaded on the first lookup reaching them instead of at startup.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return {@code true} if lazy loading is enabled, {@code false} otherwise
+     */
+    public static boolean isLazy(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_LAZY_KEY, DEFAULT_DOTENV_LAZY);
+    }
+
+    /**
+     * Determines if only the changed lines of dotenv files are reparsed on reload.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return {@code true} if incremental reloading is enabled, {@code false} otherwise
+     */
+    public static boolean isIncrementalReload(Environment environment) {
+        return getBooleanProperty(environment, DOTENV_INCREMENTAL_RELOAD_KEY, DEFAULT_DOTENV_INCREMENTAL_RELOAD);
+    }
+
+    /**
+     * Retrieves where the values of dotenv variables are kept once loaded.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return the configured value storage, or {@link DotenvValueStorage#HEAP} if not specified
+     * @throws IllegalArgumentException if the configured value names no storage
+     */
+    public static DotenvValueStorage getValueStorage(Environment environment) {
+        String storage = environment.getProperty(DOTENV_VALUE_STORAGE_KEY);
+        return storage != null ? DotenvValueStorage.of(storage) : DEFAULT_DOTENV_VALUE_STORAGE;
+    }
+
+    /**
+     * Retrieves the size from which dotenv files are parsed in parallel.
+     *
+     * @param environment the Spring {@link Environment} to retrieve the property from
+     * @return the threshold in bytes
+     */
+    public static long getParallelThreshold(Environment environment) {
+        String threshold = environment.getProperty(DOTENV_PARALLEL_THRESHOLD_KEY);
+        return (threshold != null ? DataSize.parse(threshold) : DEFAULT_DOTENV_PARALLEL_THRESHOLD).toBytes();
+    }
+}
@@ -0,0 +1,137 @@
+package one.stayfocused.spring.dotenv.environment;
+
+import one.stayfocused.spring.dotenv.core.CompactStringMap;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of the canonical property names of environment-style variables, built once per set of variables.
+ * <p>
+ * A variable written in OS style, such as {@code SPRING_DATASOURCE_URL} or {@code MY_LIST_0_NAME}, is
+ * aliased as {@code spring.datasource.url} or {@code my.list[0].name}. Aliases are keyed by a uniform form
+ * that ignores case, dashes and the difference between {@code [0]} and {@code .0}, so {@code app.cache.max-size}
+ * finds {@code APP_CACHE_MAXSIZE}. A lookup by an already uniform name is a single probe; other names are
+ * normalized first. Aliases never shadow variables defined under the same name.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+final class DotenvAliasIndex {
+
+    /** Canonical name of every alias, keyed by its uniform form. */
+    private final CompactStringMap aliases;
+
+    /** Index of the aliased variable by alias index. */
+    private final int[] targets;
+
+    private DotenvAliasIndex(CompactStringMap aliases, int[] targets) {
+        this.aliases = aliases;
+        this.targets = targets;
+    }
+
+    /**
+     * Builds the aliases of the environment-style variables.
+     *
+     * @param values the variables
+     * @return the index, or {@code null} if no variable is written in environment style
+     */
+    static DotenvAliasIndex of(CompactStringMap values) {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        Map<String, Integer> targets = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String key = values.keyAt(i);
+            if (!isEnvironmentStyle(key)) continue;
+
+            StringBuilder uniform = new StringBuilder(key.length());
+            StringBuilder canonical = new StringBuilder(key.length() + 2);
+            for (String segment : key.toLowerCase(Locale.ROOT).split("_")) {
+                if (segment.isEmpty()) continue;
+                if (!uniform.isEmpty()) uniform.append('.');
+                uniform.append(segment);
+                if (!canonical.isEmpty() && isNumeric(segment)) {
+                    canonical.append('[').append(segment).append(']');
+                } else {
+                    if (!canonical.isEmpty()) canonical.append('.');
+                    canonical.append(segment);
+                }
+            }
+            String alias = canonical.toString();
+            if (!values.containsKey(alias) && targets.putIfAbsent(uniform.toString(), i) == null) {
+                aliases.put(uniform.toString(), alias);
+            }
+        }
+        if (aliases.isEmpty()) {
+            return null;
+        }
+
+        CompactStringMap compact = CompactStringMap.copyOf(aliases);
+        int[] indexes = new int[compact.size()];
+        targets.forEach((uniform, target) -> indexes[compact.indexOf(uniform)] = target);
+        return new DotenvAliasIndex(compact, indexes);
+    }
+
+    /**
+     * Finds the variable aliased by the given property name.
+     *
+     * @param name the property name, in any relaxed form
+     * @return the index of the variable, or {@code -1} if the name is no alias
+     */
+    int indexOf(String name) {
+        int index = aliases.indexOf(name);
+        if (index < 0 && !isUniform(name)) {
+            index = aliases.indexOf(uniform(name));
+        }
+        return index < 0 ? -1 : targets[index];
+    }
+
+    /**
+     * Returns the canonical names of all aliases.
+     *
+     * @return the alias names, in the order of their variables
+     */
+    String[] names() {
+        return aliases.values().toArray(new String[0]);
+    }
+
+    private static boolean isEnvironmentStyle(String key) {
+        boolean letter = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 'A' && c <= 'Z') letter = true;
+            else if (c != '_' && (c < '0' || c > '9')) return false;
+        }
+        return letter;
+    }
+
+    private static boolean isNumeric(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    private static boolean isUniform(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < '0' || c > '9') && c != '.') return false;
+        }
+        return true;
+    }
+
+    private static String uniform(String name) {
+        StringBuilder uniform = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '[') {
+                uniform.append('.');
+            } else if (c != ']' && c != '-') {
+                uniform.append(Character.toLowerCase(c));
+            }
+        }
+        return uniform.toString();
+    }
+}
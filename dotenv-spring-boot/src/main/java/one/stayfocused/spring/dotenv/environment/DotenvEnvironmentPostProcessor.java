@@ -0,0 +1,152 @@
+package one.stayfocused.spring.dotenv.environment;
+
+import lombok.extern.slf4j.Slf4j;
+import one.stayfocused.spring.dotenv.aot.DotenvBakedValues;
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.jfr.DotenvLoadEvent;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Map;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.*;
+
+/**
+ * Custom {@link EnvironmentPostProcessor} that loads variables from a {@code .env} file into Spring's {@link Environment}.
+ * <p>
+ * Loads variables before Spring Boot configuration initialization. Supports enabling/disabling via {@code dotenv.enabled}
+ * and priority configuration via {@code dotenv.priority=high|low}. With {@code dotenv.reload=true} the registered
+ * source is reloadable, see {@link one.stayfocused.spring.dotenv.reload.DotenvFileWatcher}. When the application
+ * runs with AOT-generated artifacts containing variables baked at build time, no file is read. With
+ * {@code dotenv.lazy=true}, a {@link LazyDotenvPropertySource} defers loading until the first lookup reaching it.
+ * </p>
+ * <p>
+ * Runs before logging is configured, so its work is recorded as {@code dotenv.settings}, {@code dotenv.load}
+ * and {@code dotenv.register} steps of the application's {@link ApplicationStartup}, and as a
+ * {@link DotenvLoadEvent} in running JFR recordings.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public class DotenvEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    /**
+     * Constructs a new {@code DotenvEnvironmentPostProcessor}.
+     */
+    public DotenvEnvironmentPostProcessor() {
+        // No initialization needed
+    }
+
+    static {
+        final String BLUE = "\u001B[34m";
+        final String RESET = "\u001B[0m";
+        // Using System.out because logger is not yet initialized at this early stage
+        System.out.println("\n" + BLUE + "stayfocused.one" + RESET + " :: Dotenv for Spring Boot (v1.0.0)\n");
+    }
+
+    /**
+     * Loads environment variables from {@code .env} files into the Spring {@link Environment}.
+     * <p>
+     * Skips loading if {@code dotenv.enabled=false}. All configured files are merged into a single property source. Adds variables with high or low priority based on {@code dotenv.priority}.
+     * </p>
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment} to modify
+     * @param application the Spring Boot application
+     */
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment,
+                                       org.springframework.boot.SpringApplication application) {
+        ApplicationStartup applicationStartup = application.getApplicationStartup();
+        StartupStep settings = applicationStartup.start("dotenv.settings");
+        boolean enabled = isEnable(environment);
+        settings.tag("enabled", String.valueOf(enabled));
+        if (!enabled) {
+            settings.end();
+            return;
+        }
+        boolean reloadable = isReloadEnabled(environment);
+        boolean highPriority = isHighPriority(environment);
+        // Watching the files for changes needs their variables, so reloadable sources are loaded eagerly
+        boolean lazy = isLazy(environment) && !reloadable;
+        DotenvStatistics statistics = new DotenvStatistics(isMetricsPerKey(environment));
+        settings.tag("reloadable", String.valueOf(reloadable))
+                .tag("priority", highPriority ? "high" : "low")
+                .tag("lazy", String.valueOf(lazy))
+                .end();
+
+        if (lazy) {
+            LazyDotenvPropertySource placeholder = new LazyDotenvPropertySource(PROPERTY_SOURCE_NAME, statistics,
+                    () -> load(environment, application, false, true, statistics), environment.getPropertySources());
+            addPropertySource(environment, placeholder, highPriority);
+            log.debug("[Dotenv] Deferring loading of the .env files until the first lookup");
+            return;
+        }
+        addPropertySource(environment, load(environment, application, reloadable, false, statistics), highPriority);
+    }
+
+    /**
+     * Loads the configured files into a new property source, without framework settings if it is lazy.
+     */
+    private static DotenvPropertySource load(ConfigurableEnvironment environment,
+                                             org.springframework.boot.SpringApplication application,
+                                             boolean reloadable, boolean lazy, DotenvStatistics statistics) {
+        ApplicationStartup applicationStartup = application.getApplicationStartup();
+        StartupStep load = applicationStartup.start("dotenv.load");
+        DotenvLoadEvent event = new DotenvLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Map<String, Map<String, String>> layers = DotenvBakedValues.find(application.getClassLoader());
+        boolean baked = layers != null;
+        if (baked) {
+            log.debug("[Dotenv] Using variables of {} baked during AOT processing", layers.keySet());
+            layers = DotenvLoader.interpolate(environment, layers);
+        } else {
+            layers = DotenvLoader.loadLayers(environment, DotenvLoader.createParser(environment, statistics));
+        }
+        if (lazy) {
+            layers = LazyDotenvPropertySource.withoutFrameworkSettings(layers, isRelaxedAliases(environment));
+        }
+        statistics.recordLoad(System.nanoTime() - start);
+        event.end();
+        // Files are read and parsed in one pass, concurrently, so their time is reported as tags
+        load.tag("files", String.join(",", layers.keySet()))
+                .tag("baked", String.valueOf(baked))
+                .tag("read.bytes", String.valueOf(statistics.getReadBytes()))
+                .tag("read.nanos", String.valueOf(statistics.getReadNanos()))
+                .tag("parse.lines", String.valueOf(statistics.getParsedLines()))
+                .tag("parse.nanos", String.valueOf(statistics.getParseNanos()))
+                .end();
+
+        StartupStep register = applicationStartup.start("dotenv.register");
+        DotenvPropertySource propertySource = DotenvPropertySource.fromLayers(
+                PROPERTY_SOURCE_NAME, layers, reloadable, statistics,
+                DotenvLoader.createCipher(environment, application.getClassLoader()), isRelaxedAliases(environment),
+                getValueStorage(environment));
+        int variables = propertySource.getSource().size();
+        register.tag("variables", String.valueOf(variables)).end();
+
+        if (event.shouldCommit()) {
+            event.setFiles(String.join(",", layers.keySet()));
+            event.setVariables(variables);
+            event.setBaked(baked);
+            event.commit();
+        }
+        return propertySource;
+    }
+
+    private static void addPropertySource(ConfigurableEnvironment environment, PropertySource<?> propertySource,
+                                          boolean highPriority) {
+        if (highPriority) {
+            environment.getPropertySources().addFirst(propertySource);
+        } else {
+            environment.getPropertySources().addLast(propertySource);
+        }
+    }
+}
@@ -0,0 +1,635 @@
+package one.stayfocused.spring.dotenv.environment;
+
+import one.stayfocused.spring.dotenv.core.CompactStringMap;
+import one.stayfocused.spring.dotenv.core.DotenvCipher;
+import one.stayfocused.spring.dotenv.core.DotenvDiff;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.core.DotenvValueStorage;
+import one.stayfocused.spring.dotenv.jfr.DotenvLookupEvent;
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.lang.*;
+
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A custom {@link PropertySource} that holds environment variables from a {@code .env} file.
+ * <p>
+ * Integrates key-value pairs into Spring's {@link Environment}. The source is enumerable: its
+ * property names are computed once per set of variables, so Spring Boot's configuration property
+ * adapter can index them instead of probing the source on every bind.
+ * </p>
+ * <p>
+ * A reloadable source keeps its variables in an immutable snapshot that {@link #update(Map)}
+ * replaces atomically. Readers never block and always see either the old or the new set of
+ * variables as a whole. A source that is not reloadable reports itself as immutable to Spring Boot.
+ * Variables are stored in a {@link CompactStringMap}, which keeps lookups cheap when the source
+ * has high priority and is queried first for every property of the application.
+ * </p>
+ * <p>
+ * A source created from several files through {@link #fromLayers(String, Map, boolean)} remembers
+ * which file each variable came from and reports it as the variable's {@link Origin}.
+ * </p>
+ * <p>
+ * Every {@link #getProperty(String)} call is counted as a hit or a miss in the source's
+ * {@link DotenvStatistics}, which are exported as metrics when Micrometer is available.
+ * </p>
+ * <p>
+ * Values written as {@code ENC(...)} are decrypted with the source's {@link DotenvCipher} on their first
+ * lookup. Each value is decrypted once per set of variables, even under concurrent lookups; the plain
+ * values are discarded when the variables are reloaded. {@link #getSource()} keeps the encrypted form.
+ * </p>
+ * <p>
+ * With relaxed aliases, a variable written in OS style such as {@code SPRING_DATASOURCE_URL} is also found
+ * under its canonical name {@code spring.datasource.url}, which is listed among the property names. The
+ * aliases are indexed once per set of variables, so both forms are resolved by a hash probe instead of
+ * the candidate names Spring Boot generates for the system environment on every lookup.
+ * </p>
+ * <p>
+ * With {@link DotenvValueStorage#OFF_HEAP} storage, values live in a direct buffer and every lookup returns
+ * a new string, so they do not stay on the heap or show up in heap dumps; decrypted values are not
+ * memoized either. With {@link DotenvValueStorage#OFF_HEAP_ZEROED}, the buffer of the replaced variables is
+ * overwritten on reload, and {@link #release()} overwrites the current one on shutdown. Every lookup then
+ * registers itself as a reader of the variables it started with, and a buffer is overwritten only once its
+ * last reader is done, so lookups racing with a reload still return complete values.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class DotenvPropertySource extends EnumerablePropertySource<Map<String, String>>
+        implements OriginLookup<String> {
+
+    private final boolean reloadable;
+
+    private final AtomicReference<Snapshot> snapshot;
+
+    private final DotenvStatistics statistics;
+
+    private final DotenvCipher cipher;
+
+    private final boolean relaxedAliases;
+
+    private final DotenvValueStorage valueStorage;
+
+    /**
+     * Creates a new {@code DotenvPropertySource} with the given name and source.
+     * <p>
+     * The map is copied into a compact read-only form; later changes to it are not visible.
+     * </p>
+     *
+     * @param name   the name of the property source
+     * @param source the map of environment variables loaded from the {@code .env} file
+     */
+    public DotenvPropertySource(String name, Map<String, String> source) {
+        this(name, source, false);
+    }
+
+    /**
+     * Creates a new {@code DotenvPropertySource} that may be reloadable.
+     * <p>
+     * The map is copied into a compact read-only form; later changes to it are not visible.
+     * </p>
+     *
+     * @param name       the name of the property source
+     * @param source     the map of environment variables loaded from the {@code .env} file
+     * @param reloadable whether the variables may be replaced through {@link #update(Map)}
+     */
+    public DotenvPropertySource(String name, Map<String, String> source, boolean reloadable) {
+        this(name, Snapshot.of(source, false, false), reloadable, new DotenvStatistics(false), null, false,
+                DotenvValueStorage.HEAP);
+    }
+
+    private DotenvPropertySource(String name, Snapshot snapshot, boolean reloadable, DotenvStatistics statistics,
+                                 DotenvCipher cipher, boolean relaxedAliases, DotenvValueStorage valueStorage) {
+        super(name, snapshot.values);
+        this.reloadable = reloadable;
+        this.snapshot = new AtomicReference<>(snapshot);
+        this.statistics = statistics;
+        this.cipher = cipher;
+        this.relaxedAliases = relaxedAliases;
+        this.valueStorage = valueStorage;
+    }
+
+    /**
+     * Creates a new {@code DotenvPropertySource} by merging the variables of several files.
+     * <p>
+     * Later files override variables of earlier ones. The maps are copied.
+     * </p>
+     *
+     * @param name       the name of the property source
+     * @param layers     the variables of each file keyed by its path, from lowest to highest precedence
+     * @param reloadable whether the variables may be replaced through {@link #updateLayers(Map)}
+     * @return the property source
+     */
+    public static DotenvPropertySource fromLayers(String name, Map<String, Map<String, String>> layers,
+                                                  boolean reloadable) {
+        return fromLayers(name, layers, reloadable, new DotenvStatistics(false));
+    }
+
+    /**
+     * Creates a new {@code DotenvPropertySource} by merging the variables of several files,
+     * sharing the statistics the files were loaded with.
+     *
+     * @param name       the name of the property source
+     * @param layers     the variables of each file keyed by its path, from lowest to highest precedence
+     * @param reloadable whether the variables may be replaced through {@link #updateLayers(Map)}
+     * @param statistics the statistics to record lookups into
+     * @return the property source
+     */
+    public static DotenvPropertySource fromLayers(String name, Map<String, Map<String, String>> layers,
+                                                  boolean reloadable, DotenvStatistics statistics) {
+        return fromLayers(name, layers, reloadable, statistics, null);
+    }
+
+    /**
+     * Creates a new {@code DotenvPropertySource} by merging the variables of several files,
+     * decrypting {@code ENC(...)} values with the given cipher on first access.
+     *
+     * @param name       the name of the property source
+     * @param layers     the variables of each file keyed by its path, from lowest to highest precedence
+     * @param reloadable whether the variables may be replaced through {@link #updateLayers(Map)}
+     * @param statistics the statistics to record lookups into
+     * @param cipher     the cipher for encrypted values, or {@code null} to return them as written
+     * @return the property source
+     */
+    public static DotenvPropertySource fromLayers(String name, Map<String, Map<String, String>> layers,
+                                                  boolean reloadable, DotenvStatistics statistics,
+                                                  @Nullable DotenvCipher cipher) {
+        return fromLayers(name, layers, reloadable, statistics, cipher, false);
+    }
+
+    /**
+     * Creates a new {@code DotenvPropertySource} by merging the variables of several files, optionally
+     * aliasing environment-style variables under their canonical property names.
+     *
+     * @param name           the name of the property source
+     * @param layers         the variables of each file keyed by its path, from lowest to highest precedence
+     * @param reloadable     whether the variables may be replaced through {@link #updateLayers(Map)}
+     * @param statistics     the statistics to record lookups into
+     * @param cipher         the cipher for encrypted values, or {@code null} to return them as written
+     * @param relaxedAliases whether {@code SPRING_DATASOURCE_URL} is also found as {@code spring.datasource.url}
+     * @return the property source
+     */
+    public static DotenvPropertySource fromLayers(String name, Map<String, Map<String, String>> layers,
+                                                  boolean reloadable, DotenvStatistics statistics,
+                                                  @Nullable DotenvCipher cipher, boolean relaxedAliases) {
+        return fromLayers(name, layers, reloadable, statistics, cipher, relaxedAliases, DotenvValueStorage.HEAP);
+    }
+
+    /**
+     * Creates a new {@code DotenvPropertySource} by merging the variables of several files, keeping their
+     * values in the given storage.
+     *
+     * @param name           the name of the property source
+     * @param layers         the variables of each file keyed by its path, from lowest to highest precedence
+     * @param reloadable     whether the variables may be replaced through {@link #updateLayers(Map)}
+     * @param statistics     the statistics to record lookups into
+     * @param cipher         the cipher for encrypted values, or {@code null} to return them as written
+     * @param relaxedAliases whether {@code SPRING_DATASOURCE_URL} is also found as {@code spring.datasource.url}
+     * @param valueStorage   where the values are kept
+     * @return the property source
+     */
+    public static DotenvPropertySource fromLayers(String name, Map<String, Map<String, String>> layers,
+                                                  boolean reloadable, DotenvStatistics statistics,
+                                                  @Nullable DotenvCipher cipher, boolean relaxedAliases,
+                                                  DotenvValueStorage valueStorage) {
+        return new DotenvPropertySource(name, Snapshot.ofLayers(layers, relaxedAliases, valueStorage.isOffHeap()),
+                reloadable, statistics, cipher, relaxedAliases, valueStorage);
+    }
+
+    /**
+     * Returns the current, read-only map of environment variables.
+     *
+     * @return the environment variables
+     */
+    @Override
+    @NonNull
+    public Map<String, String> getSource() {
+        return snapshot.get().values;
+    }
+
+    /**
+     * Retrieves the value of the specified environment variable.
+     * <p>
+     * An encrypted value is decrypted on its first lookup and the plain value is returned from then on,
+     * unless values are stored off the heap, in which case it is decrypted on every lookup.
+     * </p>
+     *
+     * @param name the name of the environment variable
+     * @return the value, or {@code null} if not found
+     * @throws one.stayfocused.spring.dotenv.exception.DotenvDecryptionException if an encrypted value
+     *                                                                            cannot be decrypted
+     * @throws IllegalStateException if the off-heap values were zeroed by {@link #release()}
+     */
+    @Override
+    @Nullable
+    public Object getProperty(@NonNull String name) {
+        Snapshot current = acquire();
+        try {
+            int index = current.indexOf(name);
+            if (index < 0) {
+                statistics.recordLookup(name, false);
+                return null;
+            }
+            statistics.recordLookup(current.values.keyAt(index), true);
+            return valueAt(current, index);
+        } finally {
+            unpin(current);
+        }
+    }
+
+    /**
+     * Returns the current variables, registered as read until {@link #unpin(Snapshot)} when they are zeroed
+     * once replaced.
+     */
+    private Snapshot acquire() {
+        Snapshot current = snapshot.get();
+        if (valueStorage != DotenvValueStorage.OFF_HEAP_ZEROED) {
+            return current;
+        }
+        while (!current.pin()) {
+            Snapshot next = snapshot.get();
+            if (next == current) {
+                // Released on shutdown: reading a value fails
+                return current;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private void unpin(Snapshot current) {
+        if (valueStorage == DotenvValueStorage.OFF_HEAP_ZEROED) {
+            current.unpin();
+        }
+    }
+
+    private String valueAt(Snapshot current, int index) {
+        String key = current.values.keyAt(index);
+        String value = current.values.valueAt(index);
+        if (!current.encrypted || cipher == null || !DotenvCipher.isEncrypted(value)) {
+            return value;
+        }
+        DotenvLookupEvent event = new DotenvLookupEvent();
+        event.begin();
+        String decrypted = current.decrypted != null
+                ? current.decrypted.computeIfAbsent(key, k -> cipher.decrypt(DotenvCipher.unwrap(value)))
+                : cipher.decrypt(DotenvCipher.unwrap(value));
+        if (event.shouldCommit()) {
+            event.setKey(key);
+            event.commit();
+        }
+        return decrypted;
+    }
+
+    /**
+     * Checks whether the specified environment variable is defined.
+     *
+     * @param name the name of the environment variable
+     * @return {@code true} if the variable is defined
+     */
+    @Override
+    public boolean containsProperty(@NonNull String name) {
+        return snapshot.get().indexOf(name) >= 0;
+    }
+
+    /**
+     * Returns the names of all environment variables.
+     * <p>
+     * The same precomputed array is returned until the variables are reloaded and must not be modified.
+     * </p>
+     *
+     * @return the variable names
+     */
+    @Override
+    @NonNull
+    public String[] getPropertyNames() {
+        return snapshot.get().propertyNames;
+    }
+
+    /**
+     * Returns the file the specified environment variable was loaded from.
+     *
+     * @param key the name of the environment variable
+     * @return the origin, or {@code null} if the variable is not defined or its file is unknown
+     */
+    @Override
+    @Nullable
+    public Origin getOrigin(String key) {
+        return snapshot.get().getOrigin(key);
+    }
+
+    /**
+     * Signals whether the variables can change, allowing Spring Boot to cache its name mappings
+     * for sources that are not reloadable.
+     *
+     * @return {@code true} unless the source is reloadable
+     */
+    @Override
+    public boolean isImmutable() {
+        return !reloadable;
+    }
+
+    /**
+     * Returns the paths of the files the current variables were loaded from.
+     *
+     * @return the file paths, from lowest to highest precedence, or an empty list if unknown
+     */
+    public List<String> getLocations() {
+        return snapshot.get().locations;
+    }
+
+    /**
+     * Estimates the heap retained by the current variables, not counting values stored off the heap.
+     *
+     * @return the approximate size in bytes
+     * @see CompactStringMap#estimateRetainedBytes()
+     */
+    public long estimateRetainedBytes() {
+        return snapshot.get().values.estimateRetainedBytes();
+    }
+
+    /**
+     * Returns the load and lookup statistics of this source.
+     *
+     * @return the statistics
+     */
+    public DotenvStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Checks whether environment-style variables are also found under their canonical property names.
+     *
+     * @return {@code true} if relaxed aliases are indexed
+     */
+    public boolean isRelaxedAliases() {
+        return relaxedAliases;
+    }
+
+    /**
+     * Returns where the values of this source are kept.
+     *
+     * @return the value storage
+     */
+    public DotenvValueStorage getValueStorage() {
+        return valueStorage;
+    }
+
+    /**
+     * Overwrites the current values with zeros when the source is closed with
+     * {@link DotenvValueStorage#OFF_HEAP_ZEROED} storage, as soon as lookups in progress are done; later
+     * lookups of defined variables fail. Does nothing with other storages.
+     */
+    public void release() {
+        if (valueStorage == DotenvValueStorage.OFF_HEAP_ZEROED) {
+            snapshot.get().retire();
+        }
+    }
+
+    /**
+     * Returns the cipher decrypting {@code ENC(...)} values of this source.
+     *
+     * @return the cipher, or {@code null} if encrypted values are returned as written
+     */
+    @Nullable
+    public DotenvCipher getCipher() {
+        return cipher;
+    }
+
+    /**
+     * Checks whether the variables of this source may be replaced at runtime.
+     *
+     * @return {@code true} if the source is reloadable
+     */
+    public boolean isReloadable() {
+        return reloadable;
+    }
+
+    /**
+     * Atomically replaces all environment variables with the given ones.
+     *
+     * @param values the new environment variables
+     * @return the names of the variables that were added, removed or changed
+     * @throws IllegalStateException if the source is not reloadable
+     */
+    public Set<String> update(Map<String, String> values) {
+        return replace(Snapshot.of(values, relaxedAliases, valueStorage.isOffHeap())).getKeys();
+    }
+
+    /**
+     * Atomically replaces all environment variables with the merged variables of several files.
+     *
+     * @param layers the variables of each file keyed by its path, from lowest to highest precedence
+     * @return the names of the variables that were added, removed or changed
+     * @throws IllegalStateException if the source is not reloadable
+     */
+    public Set<String> updateLayers(Map<String, Map<String, String>> layers) {
+        return swapLayers(layers).getKeys();
+    }
+
+    /**
+     * Atomically replaces all environment variables with the merged variables of several files
+     * and reports which keys were added, removed or changed.
+     *
+     * @param layers the variables of each file keyed by its path, from lowest to highest precedence
+     * @return the difference between the old and the new variables
+     * @throws IllegalStateException if the source is not reloadable
+     */
+    public DotenvDiff swapLayers(Map<String, Map<String, String>> layers) {
+        return replace(Snapshot.ofLayers(layers, relaxedAliases, valueStorage.isOffHeap()));
+    }
+
+    private DotenvDiff replace(Snapshot next) {
+        if (!reloadable) {
+            throw new IllegalStateException("[Dotenv] Property source '" + getName() + "' is not reloadable");
+        }
+        Snapshot previous = snapshot.getAndSet(next);
+        DotenvDiff diff = DotenvDiff.between(previous.values, next.values);
+        if (valueStorage == DotenvValueStorage.OFF_HEAP_ZEROED) {
+            previous.retire();
+        }
+        return diff;
+    }
+
+    /**
+     * Computes the names of the variables that differ between two sets of variables.
+     *
+     * @param previous the old variables
+     * @param current  the new variables
+     * @return the names of the variables that were added, removed or changed
+     */
+    public static Set<String> changedKeys(Map<String, String> previous, Map<String, String> current) {
+        return DotenvDiff.between(previous, current).getKeys();
+    }
+
+    /**
+     * Immutable set of variables together with their precomputed names and origins.
+     */
+    private static final class Snapshot {
+
+        /** Reader count once the values are zeroed or being zeroed. */
+        private static final int RETIRED = -1;
+
+        private final CompactStringMap values;
+
+        private final String[] propertyNames;
+
+        /** Origin of each variable by its index in {@link #values}, or {@code null} when all share {@link #origin}. */
+        private final Origin[] origins;
+
+        private final Origin origin;
+
+        private final List<String> locations;
+
+        private final boolean encrypted;
+
+        /** Decrypted values by name, or {@code null} when no value is encrypted or values are off the heap. */
+        private final Map<String, String> decrypted;
+
+        /** Canonical names of environment-style variables, or {@code null} when not enabled or not needed. */
+        private final DotenvAliasIndex aliases;
+
+        /** Lookups reading the values, or {@link #RETIRED}; only tracked for zeroed storage. */
+        private final AtomicInteger readers = new AtomicInteger();
+
+        /** Whether the values are to be zeroed once the last reader is done. */
+        private volatile boolean retiring;
+
+        private Snapshot(CompactStringMap values, boolean encrypted, Origin[] origins, Origin origin,
+                         List<String> locations, boolean relaxedAliases) {
+            this.values = values;
+            this.aliases = relaxedAliases ? DotenvAliasIndex.of(values) : null;
+            String[] names = values.keySet().toArray(new String[0]);
+            if (aliases != null) {
+                String[] aliasNames = aliases.names();
+                String[] allNames = Arrays.copyOf(names, names.length + aliasNames.length);
+                System.arraycopy(aliasNames, 0, allNames, names.length, aliasNames.length);
+                names = allNames;
+            }
+            this.propertyNames = names;
+            this.origins = origins;
+            this.origin = origin;
+            this.locations = locations;
+            this.encrypted = encrypted;
+            this.decrypted = encrypted && !values.isOffHeap() ? new ConcurrentHashMap<>() : null;
+        }
+
+        private static Snapshot of(Map<String, String> values, boolean relaxedAliases, boolean offHeap) {
+            return new Snapshot(compact(values, offHeap), isEncrypted(values), null, null, List.of(), relaxedAliases);
+        }
+
+        private static Snapshot ofLayers(Map<String, Map<String, String>> layers, boolean relaxedAliases,
+                                         boolean offHeap) {
+            if (layers.isEmpty()) {
+                return of(Map.of(), relaxedAliases, offHeap);
+            }
+            if (layers.size() == 1) {
+                Map.Entry<String, Map<String, String>> layer = layers.entrySet().iterator().next();
+                return new Snapshot(compact(layer.getValue(), offHeap), isEncrypted(layer.getValue()), null,
+                        originOf(layer.getKey()), List.of(layer.getKey()), relaxedAliases);
+            }
+
+            Map<String, String> merged = new HashMap<>();
+            Map<String, Origin> mergedOrigins = new HashMap<>();
+            layers.forEach((location, layer) -> {
+                Origin origin = originOf(location);
+                layer.forEach((key, value) -> {
+                    merged.put(key, value);
+                    mergedOrigins.put(key, origin);
+                });
+            });
+
+            CompactStringMap values = compact(merged, offHeap);
+            Origin[] origins = new Origin[values.size()];
+            mergedOrigins.forEach((key, origin) -> origins[values.indexOf(key)] = origin);
+            return new Snapshot(values, isEncrypted(merged), origins, null, List.copyOf(layers.keySet()),
+                    relaxedAliases);
+        }
+
+        /**
+         * Checks the parsed values before they are copied, as reading them back would materialize every
+         * off-heap value as a string.
+         */
+        private static boolean isEncrypted(Map<String, String> values) {
+            for (String value : values.values()) {
+                if (DotenvCipher.isEncrypted(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static CompactStringMap compact(Map<String, String> values, boolean offHeap) {
+            return offHeap ? CompactStringMap.offHeapCopyOf(values) : CompactStringMap.copyOf(values);
+        }
+
+        private static Origin originOf(String location) {
+            return new TextResourceOrigin(new FileSystemResource(location), null);
+        }
+
+        /**
+         * Registers a reader of the values.
+         *
+         * @return {@code false} if the values are zeroed or being zeroed
+         */
+        private boolean pin() {
+            int count;
+            do {
+                count = readers.get();
+                if (count == RETIRED) {
+                    return false;
+                }
+            } while (!readers.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        private void unpin() {
+            // Lookups of a released snapshot were not registered
+            if (readers.get() != RETIRED && readers.decrementAndGet() == 0 && retiring) {
+                zeroIfUnread();
+            }
+        }
+
+        /**
+         * Zeroes the values now if nobody reads them, or else when the last reader is done.
+         */
+        private void retire() {
+            retiring = true;
+            zeroIfUnread();
+        }
+
+        private void zeroIfUnread() {
+            if (readers.compareAndSet(0, RETIRED)) {
+                values.zeroValues();
+            }
+        }
+
+        private int indexOf(String name) {
+            int index = values.indexOf(name);
+            return index < 0 && aliases != null ? aliases.indexOf(name) : index;
+        }
+
+        private Origin getOrigin(String key) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return null;
+            }
+            return origins != null ? origins[index] : origin;
+        }
+    }
+}
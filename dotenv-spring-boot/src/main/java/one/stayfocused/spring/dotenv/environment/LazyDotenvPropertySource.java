@@ -0,0 +1,232 @@
+package one.stayfocused.spring.dotenv.environment;
+
+import lombok.extern.slf4j.Slf4j;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Placeholder {@link PropertySource} that loads the {@code .env} files on the first lookup reaching it.
+ * <p>
+ * Registered instead of a {@link DotenvPropertySource} with {@code dotenv.lazy=true}. Properties found in
+ * sources of higher precedence never reach it, so an application whose variables are all supplied by the
+ * OS environment or its configuration files does not read the files at all. The first lookup loads them
+ * once, even under concurrent lookups, and the loaded source then replaces this placeholder in the
+ * environment. Lookups through a reference to the placeholder are delegated after a single volatile read.
+ * </p>
+ * <p>
+ * Spring Boot looks up its own settings of every source while the application starts, such as
+ * {@code spring.main.*}, {@code logging.*}, {@code management.*} or the variables identifying the cloud
+ * platform. The placeholder never answers these lookups, nor those of the {@code dotenv.*} settings, so
+ * they do not load the files. For the answer not to depend on whether an unrelated lookup loaded the files
+ * already, such variables are left out of the loaded source as well, with a warning, see
+ * {@link #withoutFrameworkSettings(Map, boolean)}. Lazy mode therefore does not suit {@code .env} files
+ * holding such settings.
+ * </p>
+ * <p>
+ * The placeholder is not enumerable, since listing the property names would load the files. A failure
+ * to load, such as a missing file with {@code dotenv.fail-on-missing=true}, is thrown by the lookup that
+ * triggered it, and the next lookup tries again.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public class LazyDotenvPropertySource extends PropertySource<Supplier<DotenvPropertySource>>
+        implements OriginLookup<String> {
+
+    /** Prefixes of the settings Spring Boot and this library read while the application starts. */
+    private static final String[] FRAMEWORK_PREFIXES = {"spring.", "logging.", "management.", "server.", "dotenv."};
+
+    /** Other settings read at startup, including the variables probed to detect the cloud platform. */
+    private static final Set<String> FRAMEWORK_PROPERTIES = Set.of("debug", "trace",
+            "VCAP_APPLICATION", "VCAP_SERVICES", "DYNO", "HC_LANDSCAPE", "NOMAD_ALLOC_ID", "KUBERNETES_SERVICE_HOST",
+            "KUBERNETES_SERVICE_PORT", "WEBSITE_SITE_NAME", "WEBSITE_INSTANCE_ID", "WEBSITE_RESOURCE_GROUP", "WEBSITE_SKU");
+
+    private final DotenvStatistics statistics;
+
+    private final MutablePropertySources propertySources;
+
+    private volatile DotenvPropertySource loaded;
+
+    /** Whether the loading thread is inside the loader, guarded by {@code this}. */
+    private boolean loading;
+
+    /**
+     * Creates a new placeholder.
+     *
+     * @param name            the name of the property source, also used for the loaded one
+     * @param statistics      the statistics the loaded source records into
+     * @param loader          loads the {@code .env} files into a property source
+     * @param propertySources the sources in which the loaded source replaces this placeholder
+     */
+    public LazyDotenvPropertySource(String name, DotenvStatistics statistics, Supplier<DotenvPropertySource> loader,
+                                    MutablePropertySources propertySources) {
+        super(name, loader);
+        this.statistics = statistics;
+        this.propertySources = propertySources;
+    }
+
+    /**
+     * Retrieves the value of the specified environment variable, loading the files first if needed.
+     *
+     * @param name the name of the environment variable
+     * @return the value, or {@code null} if not found, if the files are being loaded by this thread or if
+     * the name is a framework setting
+     */
+    @Override
+    @Nullable
+    public Object getProperty(@NonNull String name) {
+        if (isFrameworkProperty(name)) {
+            return null;
+        }
+        DotenvPropertySource propertySource = load();
+        return propertySource != null ? propertySource.getProperty(name) : null;
+    }
+
+    /**
+     * Checks whether the specified environment variable is defined, loading the files first if needed.
+     *
+     * @param name the name of the environment variable
+     * @return {@code true} if the variable is defined
+     */
+    @Override
+    public boolean containsProperty(@NonNull String name) {
+        if (isFrameworkProperty(name)) {
+            return false;
+        }
+        DotenvPropertySource propertySource = load();
+        return propertySource != null && propertySource.containsProperty(name);
+    }
+
+    @Override
+    @Nullable
+    public Origin getOrigin(String key) {
+        if (isFrameworkProperty(key)) {
+            return null;
+        }
+        DotenvPropertySource propertySource = load();
+        return propertySource != null ? propertySource.getOrigin(key) : null;
+    }
+
+    /**
+     * Returns the loaded property source, loading the files first if needed.
+     *
+     * @return the property source
+     * @throws IllegalStateException if called while the files are being loaded by this thread
+     */
+    public DotenvPropertySource getPropertySource() {
+        DotenvPropertySource propertySource = load();
+        if (propertySource == null) {
+            throw new IllegalStateException("[Dotenv] Property source '" + getName() + "' is being loaded");
+        }
+        return propertySource;
+    }
+
+    /**
+     * Checks whether the files were loaded.
+     *
+     * @return {@code true} once a lookup reached this placeholder
+     */
+    public boolean isLoaded() {
+        return loaded != null;
+    }
+
+    /**
+     * Returns the statistics the loaded source records into, available before the files are loaded.
+     *
+     * @return the statistics
+     */
+    public DotenvStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Leaves out the variables a lazily loaded source never serves: those named like a framework setting in
+     * any case and, with relaxed aliases, the environment-style variables aliased as one, such as
+     * {@code SERVER_PORT}. Left out variables are reported as a warning.
+     *
+     * @param layers         the variables of each file keyed by its path
+     * @param relaxedAliases whether environment-style variables are aliased under their property names
+     * @return the layers without framework settings, or the given layers if none holds any
+     */
+    public static Map<String, Map<String, String>> withoutFrameworkSettings(Map<String, Map<String, String>> layers,
+                                                                           boolean relaxedAliases) {
+        Set<String> ignored = new TreeSet<>();
+        Map<String, Map<String, String>> filtered = new LinkedHashMap<>();
+        layers.forEach((path, variables) -> {
+            Map<String, String> kept = null;
+            for (String key : variables.keySet()) {
+                if (isFrameworkVariable(key, relaxedAliases)) {
+                    if (kept == null) kept = new LinkedHashMap<>(variables);
+                    kept.remove(key);
+                    ignored.add(key);
+                }
+            }
+            filtered.put(path, kept != null ? kept : variables);
+        });
+        if (ignored.isEmpty()) {
+            return layers;
+        }
+        log.warn("[Dotenv] Ignoring framework settings {} of {}, which are not read from .env files with dotenv.lazy=true",
+                ignored, layers.keySet());
+        return filtered;
+    }
+
+    private static boolean isFrameworkVariable(String key, boolean relaxedAliases) {
+        String lowerCase = key.toLowerCase(Locale.ROOT);
+        return isFrameworkProperty(key) || isFrameworkProperty(lowerCase)
+                || relaxedAliases && isFrameworkProperty(lowerCase.replace('_', '.'));
+    }
+
+    private static boolean isFrameworkProperty(String name) {
+        if (FRAMEWORK_PROPERTIES.contains(name)) {
+            return true;
+        }
+        for (String prefix : FRAMEWORK_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DotenvPropertySource load() {
+        DotenvPropertySource current = loaded;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = loaded;
+            if (current == null) {
+                // The loader reads its settings from the environment, which queries this placeholder again
+                if (loading) {
+                    return null;
+                }
+                loading = true;
+                try {
+                    current = getSource().get();
+                } finally {
+                    loading = false;
+                }
+                loaded = current;
+                if (propertySources.get(getName()) == this) {
+                    propertySources.replace(getName(), current);
+                }
+            }
+        }
+        return current;
+    }
+}
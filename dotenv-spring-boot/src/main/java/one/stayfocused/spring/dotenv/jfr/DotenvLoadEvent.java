@@ -0,0 +1,35 @@
+package one.stayfocused.spring.dotenv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR event recorded when the dotenv variables are loaded at startup.
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Name("one.stayfocused.dotenv.Load")
+@Label("Dotenv Load")
+@Category({"Spring Boot", "Dotenv"})
+@Description("Loading of the .env files before the application context is created")
+@StackTrace(false)
+@Setter
+public final class DotenvLoadEvent extends Event {
+
+    @Label("Files")
+    @Description("Files the variables were loaded from, from lowest to highest precedence")
+    private String files;
+
+    @Label("Variables")
+    private int variables;
+
+    @Label("Baked")
+    @Description("Whether the variables were baked into the application during AOT processing")
+    private boolean baked;
+}
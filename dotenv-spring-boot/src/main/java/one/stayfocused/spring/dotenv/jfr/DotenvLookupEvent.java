@@ -0,0 +1,30 @@
+package one.stayfocused.spring.dotenv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * JFR event recorded for dotenv lookups that take longer than the event's threshold, 1 ms by default.
+ * <p>
+ * Plain lookups are a hash probe; only lookups decrypting an {@code ENC(...)} value are timed.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Name("one.stayfocused.dotenv.SlowLookup")
+@Label("Dotenv Slow Lookup")
+@Category({"Spring Boot", "Dotenv"})
+@Description("Lookup of a dotenv variable whose value had to be decrypted")
+@Threshold("1 ms")
+@Setter
+public final class DotenvLookupEvent extends Event {
+
+    @Label("Key")
+    private String key;
+}
@@ -0,0 +1,40 @@
+package one.stayfocused.spring.dotenv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR event recorded when the dotenv variables are reloaded at runtime.
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Name("one.stayfocused.dotenv.Reload")
+@Label("Dotenv Reload")
+@Category({"Spring Boot", "Dotenv"})
+@Description("Reparsing of the .env files and swap of the variables")
+@StackTrace(false)
+@Setter
+public final class DotenvReloadEvent extends Event {
+
+    @Label("Files")
+    @Description("Files the variables were loaded from, from lowest to highest precedence")
+    private String files;
+
+    @Label("Variables")
+    private int variables;
+
+    @Label("Added")
+    private int added;
+
+    @Label("Removed")
+    private int removed;
+
+    @Label("Changed")
+    private int changed;
+}
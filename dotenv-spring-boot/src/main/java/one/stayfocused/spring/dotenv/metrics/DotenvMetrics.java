@@ -0,0 +1,144 @@
+package one.stayfocused.spring.dotenv.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.environment.LazyDotenvPropertySource;
+import one.stayfocused.spring.dotenv.reload.DotenvReloadedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+
+/**
+ * Exports the {@link DotenvStatistics} of the dotenv property source as Micrometer meters.
+ * <p>
+ * Registers the following meters, reading the statistics only when the registry is scraped:
+ * </p>
+ * <ul>
+ *     <li>{@code dotenv.load}: timer of loading all configured files, on startup and on every reload</li>
+ *     <li>{@code dotenv.read} and {@code dotenv.parse}: timers of reading and parsing single {@code .env} files</li>
+ *     <li>{@code dotenv.read.bytes} and {@code dotenv.parse.lines}: size of the files read and parsed</li>
+ *     <li>{@code dotenv.entries}: number of variables currently held by the property source</li>
+ *     <li>{@code dotenv.lookups}: property lookups, tagged {@code result=hit} or {@code result=miss}</li>
+ *     <li>{@code dotenv.lookups.key}: hits per variable, tagged {@code key}, with {@code dotenv.metrics-per-key=true}</li>
+ * </ul>
+ * <p>
+ * Per-key meters are registered for the variables present at bind time and for variables added by a reload.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class DotenvMetrics implements MeterBinder, ApplicationListener<DotenvReloadedEvent> {
+
+    private final ConfigurableEnvironment environment;
+
+    private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new binder for the dotenv property source of the given environment.
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment} holding the dotenv property source
+     */
+    public DotenvMetrics(ConfigurableEnvironment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Registers the dotenv meters, unless no dotenv property source is registered. Per-key meters need the
+     * variable names and therefore load a lazily loaded source.
+     *
+     * @param registry the registry to bind to
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        PropertySource<?> source = environment.getPropertySources().get(PROPERTY_SOURCE_NAME);
+        DotenvStatistics statistics;
+        if (source instanceof DotenvPropertySource propertySource) {
+            statistics = propertySource.getStatistics();
+        } else if (source instanceof LazyDotenvPropertySource lazy) {
+            // Lazily loaded sources record into statistics that exist before the files are read
+            statistics = lazy.getStatistics();
+        } else {
+            return;
+        }
+
+        FunctionTimer.builder("dotenv.load", statistics,
+                        DotenvStatistics::getLoadCount, DotenvStatistics::getLoadNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent loading all configured .env files")
+                .register(registry);
+        FunctionTimer.builder("dotenv.read", statistics,
+                        DotenvStatistics::getReadCount, DotenvStatistics::getReadNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent reading .env files")
+                .register(registry);
+        FunctionTimer.builder("dotenv.parse", statistics,
+                        DotenvStatistics::getParseCount, DotenvStatistics::getParseNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent parsing .env files")
+                .register(registry);
+        FunctionCounter.builder("dotenv.read.bytes", statistics, DotenvStatistics::getReadBytes)
+                .description("Size of the .env files read")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        FunctionCounter.builder("dotenv.parse.lines", statistics, DotenvStatistics::getParsedLines)
+                .description("Lines of the .env files parsed")
+                .register(registry);
+        // Looked up on every scrape, since an on-demand reload may replace the property source
+        Gauge.builder("dotenv.entries", environment, DotenvMetrics::entries)
+                .description("Variables held by the dotenv property source")
+                .register(registry);
+        FunctionCounter.builder("dotenv.lookups", statistics, DotenvStatistics::getHits)
+                .description("Lookups of properties in the dotenv property source")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("dotenv.lookups", statistics, DotenvStatistics::getMisses)
+                .description("Lookups of properties in the dotenv property source")
+                .tag("result", "miss")
+                .register(registry);
+
+        if (statistics.isPerKey()) {
+            registries.add(registry);
+            bindKeys(registry, source instanceof LazyDotenvPropertySource lazy
+                    ? lazy.getPropertySource() : (DotenvPropertySource) source);
+        }
+    }
+
+    /**
+     * Registers per-key meters for variables added by a reload.
+     *
+     * @param event the reload event
+     */
+    @Override
+    public void onApplicationEvent(@NonNull DotenvReloadedEvent event) {
+        registries.forEach(registry -> bindKeys(registry, event.getPropertySource()));
+    }
+
+    private static double entries(ConfigurableEnvironment environment) {
+        return environment.getPropertySources().get(PROPERTY_SOURCE_NAME) instanceof DotenvPropertySource source
+                ? source.getSource().size()
+                : 0;
+    }
+
+    private static void bindKeys(MeterRegistry registry, DotenvPropertySource propertySource) {
+        DotenvStatistics statistics = propertySource.getStatistics();
+        // The variables themselves, as their relaxed aliases are tallied under the variable they resolve to
+        for (String key : propertySource.getSource().keySet()) {
+            // Registering an existing meter again returns it, so keys present before a reload are skipped
+            FunctionCounter.builder("dotenv.lookups.key", statistics, stats -> stats.getHits(key))
+                    .description("Lookups of a variable in the dotenv property source")
+                    .tag("key", key)
+                    .register(registry);
+        }
+    }
+}
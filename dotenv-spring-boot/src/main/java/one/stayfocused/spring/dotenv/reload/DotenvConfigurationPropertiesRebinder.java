@@ -0,0 +1,154 @@
+package one.stayfocused.spring.dotenv.reload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBean;
+import org.springframework.boot.context.properties.bind.BindMethod;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rebinds the {@code @ConfigurationProperties} beans affected by a reload of the {@code .env} files.
+ * <p>
+ * Every added, removed or changed key is mapped through relaxed binding to a property name, both as written
+ * ({@code app.mail.host}) and in environment variable form ({@code APP_MAIL_HOST}). Only beans whose prefix
+ * is that name or one of its ancestors are rebound, by running them through the bean factory's
+ * initialization again, which is how {@code @ConfigurationProperties} are bound in the first place.
+ * Beans bound through their constructor are immutable and left alone. Beans are rebound in place, so
+ * concurrent readers may briefly observe a mix of old and new values, and a field whose key was removed
+ * keeps its last bound value.
+ * </p>
+ * <p>
+ * The listener runs before any other, so listeners of {@link DotenvReloadedEvent} see the rebound beans.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public class DotenvConfigurationPropertiesRebinder
+        implements ApplicationListener<DotenvReloadedEvent>, ApplicationContextAware, Ordered {
+
+    private ApplicationContext applicationContext;
+
+    private volatile List<Target> targets;
+
+    /**
+     * Constructs a new {@code DotenvConfigurationPropertiesRebinder}.
+     */
+    public DotenvConfigurationPropertiesRebinder() {
+        // The application context is injected through ApplicationContextAware
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Rebinds the beans affected by the reloaded keys.
+     *
+     * @param event the reload event
+     */
+    @Override
+    public void onApplicationEvent(DotenvReloadedEvent event) {
+        rebind(event.getChangedKeys());
+    }
+
+    /**
+     * Rebinds the {@code @ConfigurationProperties} beans whose prefix covers one of the given keys.
+     *
+     * @param keys the names of the variables that were added, removed or changed
+     * @return the names of the rebound beans
+     */
+    public Set<String> rebind(Collection<String> keys) {
+        List<ConfigurationPropertyName> names = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            addNames(key, names);
+        }
+
+        Set<String> rebound = new LinkedHashSet<>();
+        for (Target target : targets()) {
+            if (target.isAffectedBy(names) && rebind(target)) {
+                rebound.add(target.beanName);
+            }
+        }
+        if (!rebound.isEmpty()) {
+            log.info("[Dotenv] Rebound configuration properties beans {}", rebound);
+        }
+        return rebound;
+    }
+
+    private boolean rebind(Target target) {
+        Object bean = applicationContext.getBean(target.beanName);
+        Object singletonTarget = AopProxyUtils.getSingletonTarget(bean);
+        try {
+            applicationContext.getAutowireCapableBeanFactory()
+                    .initializeBean(singletonTarget != null ? singletonTarget : bean, target.beanName);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[Dotenv] Failed to rebind '{}': {}", target.beanName, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the mutable {@code @ConfigurationProperties} beans, resolved on the first reload.
+     */
+    private List<Target> targets() {
+        List<Target> current = targets;
+        if (current == null) {
+            current = new ArrayList<>();
+            for (ConfigurationPropertiesBean bean : ConfigurationPropertiesBean.getAll(applicationContext).values()) {
+                if (bean.asBindTarget().getBindMethod() == BindMethod.JAVA_BEAN) {
+                    current.add(new Target(bean.getName(),
+                            ConfigurationPropertyName.of(bean.getAnnotation().prefix())));
+                }
+            }
+            targets = current;
+        }
+        return current;
+    }
+
+    private static void addNames(String key, List<ConfigurationPropertyName> names) {
+        ConfigurationPropertyName name = ConfigurationPropertyName.adapt(key, '.');
+        if (!name.isEmpty()) {
+            names.add(name);
+        }
+        if (key.indexOf('_') >= 0) {
+            ConfigurationPropertyName environmentName = ConfigurationPropertyName.adapt(key, '_');
+            if (!environmentName.isEmpty()) {
+                names.add(environmentName);
+            }
+        }
+    }
+
+    /**
+     * A rebindable bean together with the name its prefix is bound to.
+     */
+    private record Target(String beanName, ConfigurationPropertyName prefix) {
+
+        private boolean isAffectedBy(List<ConfigurationPropertyName> names) {
+            for (ConfigurationPropertyName name : names) {
+                if (prefix.equals(name) || prefix.isAncestorOf(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
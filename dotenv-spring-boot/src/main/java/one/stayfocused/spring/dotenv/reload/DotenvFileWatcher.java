@@ -0,0 +1,165 @@
+package one.stayfocused.spring.dotenv.reload;
+
+import lombok.extern.slf4j.Slf4j;
+import one.stayfocused.spring.dotenv.config.DotenvProperties;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.getDotenvLocations;
+
+/**
+ * Watches the {@code .env} files and reloads the {@link DotenvPropertySource} when one of them changes.
+ * <p>
+ * Changes are detected by a {@link WatchService} on the files' directories, running on a background
+ * thread that is virtual when {@code spring.threads.virtual.enabled=true} on Java 21+. Bursts of
+ * writes are debounced by {@code dotenv.reload-debounce}, then the files are reparsed off the request
+ * path and the variables are swapped atomically by a {@link DotenvReloader}. A {@link DotenvReloadedEvent}
+ * listing the changed keys is published afterwards. If a configured file is missing or cannot be parsed, the current variables are kept.
+ * A failed reload is logged and never stops the watcher.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public class DotenvFileWatcher implements SmartLifecycle {
+
+    private final ConfigurableEnvironment environment;
+
+    private final DotenvProperties properties;
+
+    private final DotenvReloader reloader;
+
+    private final SimpleAsyncTaskExecutor executor;
+
+    private volatile WatchService watchService;
+
+    /**
+     * Constructs a new watcher.
+     *
+     * @param environment the Spring {@link ConfigurableEnvironment} holding the dotenv property source
+     * @param properties  the dotenv configuration
+     * @param reloader    the reloader applying the changes, shared with the other reload triggers
+     */
+    public DotenvFileWatcher(ConfigurableEnvironment environment, DotenvProperties properties,
+                             DotenvReloader reloader) {
+        this.environment = environment;
+        this.properties = properties;
+        this.reloader = reloader;
+        this.executor = new SimpleAsyncTaskExecutor("dotenv-reload-");
+        this.executor.setDaemon(true);
+        this.executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * Starts watching the {@code .env} files, unless there is no reloadable dotenv property source.
+     */
+    @Override
+    public void start() {
+        if (!(environment.getPropertySources().get(PROPERTY_SOURCE_NAME) instanceof DotenvPropertySource propertySource)
+                || !propertySource.isReloadable()) {
+            log.warn("[Dotenv] Reload is enabled, but no reloadable dotenv property source is registered");
+            return;
+        }
+
+        Set<Path> files = new LinkedHashSet<>();
+        getDotenvLocations(environment).forEach(location ->
+                files.add(Paths.get(location.getPath()).toAbsolutePath().normalize()));
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path directory : files.stream().map(Path::getParent).filter(Files::isDirectory).collect(Collectors.toSet())) {
+                directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+            watchService = service;
+            executor.execute(() -> watch(service, files));
+            log.info("[Dotenv] Watching {} for changes", files);
+        } catch (IOException e) {
+            log.warn("[Dotenv] Cannot watch {} for changes: {}", files, e.getMessage());
+        }
+    }
+
+    /**
+     * Stops watching the {@code .env} files.
+     */
+    @Override
+    public void stop() {
+        WatchService service = watchService;
+        watchService = null;
+        if (service == null) return;
+        try {
+            service.close();
+        } catch (IOException e) {
+            log.debug("[Dotenv] Failed to close watch service: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the {@code .env} files are being watched.
+     *
+     * @return {@code true} if the watcher is running
+     */
+    @Override
+    public boolean isRunning() {
+        return watchService != null;
+    }
+
+    private void watch(WatchService service, Set<Path> files) {
+        long debounceMillis = properties.getReloadDebounce().toMillis();
+        try {
+            while (true) {
+                if (!affects(service.take(), files)) continue;
+                WatchKey next;
+                while ((next = service.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    affects(next, files);
+                }
+                reload(files);
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("[Dotenv] Stopped watching {}", files);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean affects(WatchKey key, Set<Path> files) {
+        Path directory = (Path) key.watchable();
+        boolean affected = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            affected |= event.kind() == OVERFLOW || files.contains(directory.resolve((Path) event.context()));
+        }
+        key.reset();
+        return affected;
+    }
+
+    private void reload(Set<Path> files) {
+        try {
+            reloader.reload();
+        } catch (DotenvFileNotFoundException | DotenvParseException e) {
+            log.warn("[Dotenv] Keeping current variables, reload of {} failed: {}", files, e.getMessage());
+        } catch (RuntimeException e) {
+            // Anything else, such as a failing listener, must not end the watch loop
+            log.warn("[Dotenv] Reload of {} failed, still watching for changes", files, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package one.stayfocused.spring.dotenv.reload;
+
+import one.stayfocused.spring.dotenv.core.DotenvDiff;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * Event published after the {@code .env} file was reloaded and at least one variable changed.
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+public class DotenvReloadedEvent extends ApplicationEvent {
+
+    /** Variables that were added, removed or changed by the reload. */
+    private final DotenvDiff diff;
+
+    /** Names of all variables that were added, removed or changed, as given by {@link DotenvDiff#getKeys()}. */
+    private final Set<String> changedKeys;
+
+    /**
+     * Creates a new {@code DotenvReloadedEvent}.
+     *
+     * @param propertySource the property source whose variables were replaced
+     * @param changedKeys    the names of the variables that were added, removed or changed
+     */
+    public DotenvReloadedEvent(DotenvPropertySource propertySource, Set<String> changedKeys) {
+        this(propertySource, new DotenvDiff(Set.of(), Set.of(), changedKeys));
+    }
+
+    /**
+     * Creates a new {@code DotenvReloadedEvent} from a key-level difference.
+     *
+     * @param propertySource the property source whose variables were replaced
+     * @param diff           the variables that were added, removed or changed
+     */
+    public DotenvReloadedEvent(DotenvPropertySource propertySource, DotenvDiff diff) {
+        super(propertySource);
+        this.diff = diff;
+        this.changedKeys = diff.getKeys();
+    }
+
+    /**
+     * Returns the property source whose variables were replaced.
+     *
+     * @return the reloaded property source
+     */
+    public DotenvPropertySource getPropertySource() {
+        return (DotenvPropertySource) getSource();
+    }
+
+    /**
+     * Returns the names of the variables that were added, removed or changed.
+     *
+     * @return the changed variable names
+     */
+    public Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    /**
+     * Returns which variables were added, removed or changed.
+     *
+     * @return the key-level difference
+     */
+    public DotenvDiff getDiff() {
+        return diff;
+    }
+}
@@ -0,0 +1,126 @@
+package one.stayfocused.spring.dotenv.reload;
+
+import lombok.extern.slf4j.Slf4j;
+import one.stayfocused.spring.dotenv.core.DotenvDiff;
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.core.EnvParser;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.environment.LazyDotenvPropertySource;
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import one.stayfocused.spring.dotenv.exception.DotenvParseException;
+import one.stayfocused.spring.dotenv.jfr.DotenvReloadEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.Map;
+import java.util.Set;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.isLazy;
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.isReloadEnabled;
+
+/**
+ * Reparses the configured {@code .env} files and swaps the variables of the dotenv property source.
+ * <p>
+ * A reloadable source is updated in place. Any other source is replaced in the environment's
+ * property sources by a new one holding the reparsed variables, which is equally atomic for readers.
+ * A {@link DotenvReloadedEvent} carrying the key-level {@link DotenvDiff} is published when at least one
+ * variable changed. Reloads are serialized, and the auto-configuration shares a single reloader between
+ * the file watcher and the endpoint, so their results are never applied out of order. Every reload is
+ * recorded as a {@link DotenvReloadEvent} in running JFR recordings.
+ * </p>
+ *
+ * @author Augustin (StayFocused)
+ * @since 1.0.0
+ */
+@Slf4j
+public class DotenvReloader {
+
+    private final ConfigurableEnvironment environment;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EnvParser parser;
+
+    /**
+     * Constructs a new reloader.
+     *
+     * @param environment    the Spring {@link ConfigurableEnvironment} holding the dotenv property source
+     * @param eventPublisher the publisher for {@link DotenvReloadedEvent}s
+     * @param parser         the parser for the {@code .env} files
+     */
+    public DotenvReloader(ConfigurableEnvironment environment, ApplicationEventPublisher eventPublisher,
+                          EnvParser parser) {
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.parser = parser;
+    }
+
+    /**
+     * Reparses the {@code .env} files and swaps the variables of the dotenv property source.
+     *
+     * @return the names of the variables that were added, removed or changed
+     * @throws IllegalStateException       if no dotenv property source is registered
+     * @throws DotenvFileNotFoundException if a configured file is missing
+     * @throws DotenvParseException        if a file cannot be parsed
+     */
+    public synchronized Set<String> reload() {
+        if (environment.getPropertySources().get(PROPERTY_SOURCE_NAME) instanceof LazyDotenvPropertySource lazy) {
+            // Not loaded yet, so loading it reads the current files
+            lazy.getPropertySource();
+            return Set.of();
+        }
+        if (!(environment.getPropertySources().get(PROPERTY_SOURCE_NAME) instanceof DotenvPropertySource current)) {
+            throw new IllegalStateException("[Dotenv] No dotenv property source is registered");
+        }
+
+        DotenvReloadEvent event = new DotenvReloadEvent();
+        event.begin();
+        DotenvStatistics statistics = current.getStatistics();
+        long start = System.nanoTime();
+        Map<String, Map<String, String>> layers = DotenvLoader.loadLayers(environment, parser, true);
+        if (isLazy(environment) && !isReloadEnabled(environment)) {
+            // The source was loaded lazily, so it keeps leaving out framework settings
+            layers = LazyDotenvPropertySource.withoutFrameworkSettings(layers, current.isRelaxedAliases());
+        }
+        statistics.recordLoad(System.nanoTime() - start);
+
+        DotenvPropertySource reloaded = current;
+        DotenvDiff diff;
+        if (current.isReloadable()) {
+            diff = current.swapLayers(layers);
+        } else {
+            reloaded = DotenvPropertySource.fromLayers(PROPERTY_SOURCE_NAME, layers, false, statistics,
+                    current.getCipher(), current.isRelaxedAliases(), current.getValueStorage());
+            diff = DotenvDiff.between(current.getSource(), reloaded.getSource());
+            if (!diff.isEmpty()) {
+                environment.getPropertySources().replace(PROPERTY_SOURCE_NAME, reloaded);
+                current.release();
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFiles(String.join(",", reloaded.getLocations()));
+            event.setVariables(reloaded.getSource().size());
+            event.setAdded(diff.getAdded().size());
+            event.setRemoved(diff.getRemoved().size());
+            event.setChanged(diff.getChanged().size());
+            event.commit();
+        }
+
+        Set<String> changedKeys = diff.getKeys();
+        if (changedKeys.isEmpty()) {
+            return changedKeys;
+        }
+
+        log.info("[Dotenv] Reloaded {}: {} added, {} removed, {} changed", reloaded.getLocations(),
+                diff.getAdded().size(), diff.getRemoved().size(), diff.getChanged().size());
+        try {
+            eventPublisher.publishEvent(new DotenvReloadedEvent(reloaded, diff));
+        } catch (RuntimeException e) {
+            log.error("[Dotenv] Failed to publish reload event: {}", e.getMessage(), e);
+        }
+        return changedKeys;
+    }
+}
@@ -0,0 +1,144 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.aot.DotenvBakedValues;
+import one.stayfocused.spring.dotenv.aot.DotenvBakingAotProcessor;
+import one.stayfocused.spring.dotenv.aot.DotenvRuntimeHints;
+import one.stayfocused.spring.dotenv.config.DotenvProperties;
+import one.stayfocused.spring.dotenv.environment.DotenvEnvironmentPostProcessor;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DotenvAotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRegisterRuntimeHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new DotenvRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DotenvEnvironmentPostProcessor.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DotenvPropertySource.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DotenvProperties.class).test(hints));
+    }
+
+    @Test
+    void shouldSkipBakingByDefault() {
+        assertNull(new DotenvBakingAotProcessor().processAheadOfTime(beanFactory(new MockEnvironment())));
+    }
+
+    @Test
+    void shouldBakeVariablesIntoGeneratedClass() throws IOException {
+        Path base = Files.writeString(tempDir.resolve(".env"), "GREETING=\"hello world\"\nQUOTE=say \"hi\"\\n");
+        Map<String, String> many = IntStream.range(0, 600).boxed()
+                .collect(Collectors.toMap(i -> "KEY_" + i, i -> "value-" + i));
+        Path local = Files.writeString(tempDir.resolve(".env.local"), many.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("\n")));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("dotenv.aot-bake", "true")
+                .withProperty("dotenv.path", base + "," + local);
+
+        BeanFactoryInitializationAotContribution contribution =
+                new DotenvBakingAotProcessor().processAheadOfTime(beanFactory(environment));
+        TestGenerationContext generationContext = new TestGenerationContext();
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+        generationContext.writeGeneratedContent();
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(DotenvBakedValues.GENERATED_CLASS_NAME))
+                .test(generationContext.getRuntimeHints()));
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, String>> layers = (Map<String, Map<String, String>>)
+                    compiled.getInstance(Supplier.class, DotenvBakedValues.GENERATED_CLASS_NAME).get();
+
+            assertThat(layers.keySet()).containsExactly(base.toString(), local.toString());
+            assertEquals(Map.of("GREETING", "hello world", "QUOTE", "say \"hi\"\\n"), layers.get(base.toString()));
+            assertEquals(many, layers.get(local.toString()));
+        });
+    }
+
+    @Test
+    void shouldBakeFilesBeyondConstantPoolLimit() throws IOException {
+        Map<String, String> variables = IntStream.range(0, 25_000).boxed()
+                .collect(Collectors.toMap(i -> "KEY_" + i, i -> "10:value-" + i + "-\u00e9\u20ac\ud83d\ude00"));
+        variables.put("LARGE", "\u20ac".repeat(30_000));
+        Path env = Files.writeString(tempDir.resolve(".env"), variables.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("\n")));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("dotenv.aot-bake", "true")
+                .withProperty("dotenv.path", env.toString());
+
+        BeanFactoryInitializationAotContribution contribution =
+                new DotenvBakingAotProcessor().processAheadOfTime(beanFactory(environment));
+        TestGenerationContext generationContext = new TestGenerationContext();
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+        generationContext.writeGeneratedContent();
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, String>> layers = (Map<String, Map<String, String>>)
+                    compiled.getInstance(Supplier.class, DotenvBakedValues.GENERATED_CLASS_NAME).get();
+
+            assertEquals(variables, layers.get(env.toString()));
+        });
+    }
+
+    @Test
+    void shouldBakeValuesWithoutInterpolatingBuildEnvironment() throws IOException {
+        Path env = Files.writeString(tempDir.resolve(".env"), "BUILD_PATH=${PATH}\nGREETING=hello\nMESSAGE=${GREETING}");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("dotenv.aot-bake", "true")
+                .withProperty("dotenv.interpolate", "true")
+                .withProperty("dotenv.path", env.toString());
+
+        BeanFactoryInitializationAotContribution contribution =
+                new DotenvBakingAotProcessor().processAheadOfTime(beanFactory(environment));
+        TestGenerationContext generationContext = new TestGenerationContext();
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+        generationContext.writeGeneratedContent();
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, String>> layers = (Map<String, Map<String, String>>)
+                    compiled.getInstance(Supplier.class, DotenvBakedValues.GENERATED_CLASS_NAME).get();
+
+            assertEquals(Map.of("BUILD_PATH", "${PATH}", "GREETING", "hello", "MESSAGE", "${GREETING}"),
+                    layers.get(env.toString()));
+        });
+    }
+
+    private static DefaultListableBeanFactory beanFactory(MockEnvironment environment) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("environment", environment);
+        return beanFactory;
+    }
+}
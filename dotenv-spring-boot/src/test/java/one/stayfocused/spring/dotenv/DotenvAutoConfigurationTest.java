@@ -0,0 +1,46 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.actuator.DotenvEndpoint;
+import one.stayfocused.spring.dotenv.config.DotenvAutoConfiguration;
+import one.stayfocused.spring.dotenv.reload.DotenvConfigurationPropertiesRebinder;
+import one.stayfocused.spring.dotenv.reload.DotenvFileWatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DotenvAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DotenvAutoConfiguration.class));
+
+    @Test
+    void shouldRegisterOnlyEssentialBeansByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(DotenvFileWatcher.class);
+            assertThat(context).doesNotHaveBean(DotenvConfigurationPropertiesRebinder.class);
+            assertThat(context).doesNotHaveBean(DotenvEndpoint.class);
+            assertThat(context).doesNotHaveBean("dotenvValueReleaser");
+        });
+    }
+
+    @Test
+    void shouldRegisterRebinderWhenReloadingOrEndpointIsExposed() {
+        contextRunner.withPropertyValues("dotenv.reload=true", "dotenv.path=target/dotenv-autoconfiguration/.env")
+                .run(context -> assertThat(context).hasSingleBean(DotenvConfigurationPropertiesRebinder.class));
+        contextRunner.withPropertyValues("management.endpoints.web.exposure.include=dotenv")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(DotenvEndpoint.class);
+                    assertThat(context).hasSingleBean(DotenvConfigurationPropertiesRebinder.class);
+                });
+    }
+
+    @Test
+    void shouldRegisterValueReleaserForZeroedStorageOnly() {
+        contextRunner.withPropertyValues("dotenv.value-storage=OFF_HEAP_ZEROED")
+                .run(context -> assertThat(context).hasBean("dotenvValueReleaser"));
+        contextRunner.withPropertyValues("dotenv.value-storage=off-heap")
+                .run(context -> assertThat(context).doesNotHaveBean("dotenvValueReleaser"));
+    }
+}
@@ -0,0 +1,131 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.actuator.DotenvEndpoint;
+import one.stayfocused.spring.dotenv.reload.DotenvFileWatcher;
+import one.stayfocused.spring.dotenv.reload.DotenvReloadedEvent;
+import one.stayfocused.spring.dotenv.reload.DotenvReloader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "dotenv.path=target/dotenv-concurrent-reload/.env",
+        "dotenv.reload=true",
+        "dotenv.reload-debounce=1ms",
+        "management.endpoints.web.exposure.include=dotenv"
+})
+class DotenvConcurrentReloadTest {
+
+    private static final Path DOTENV_PATH = Path.of("target/dotenv-concurrent-reload/.env");
+
+    private static final int VERSIONS = 300;
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    @Autowired
+    private DotenvReloader reloader;
+
+    @Autowired
+    private DotenvFileWatcher watcher;
+
+    @Autowired
+    private DotenvEndpoint endpoint;
+
+    @Autowired
+    private List<Integer> reloadedVersions;
+
+    @BeforeAll
+    static void createDotenv() throws IOException {
+        Files.createDirectories(DOTENV_PATH.getParent());
+        write(0);
+    }
+
+    @AfterAll
+    static void deleteDotenv() throws IOException {
+        Files.deleteIfExists(DOTENV_PATH);
+    }
+
+    @Test
+    void shouldShareOneReloaderBetweenWatcherAndEndpoint() {
+        assertSame(reloader, ReflectionTestUtils.getField(watcher, "reloader"));
+        assertSame(reloader, ReflectionTestUtils.getField(endpoint, "reloader"));
+    }
+
+    @Test
+    void shouldApplyConcurrentReloadsInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> endpointReloads = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                endpointReloads.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        endpoint.reload();
+                    }
+                }));
+            }
+            for (int version = 1; version <= VERSIONS; version++) {
+                write(version);
+                Thread.sleep(2);
+            }
+            writing.set(false);
+            for (Future<?> reload : endpointReloads) {
+                reload.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        endpoint.reload();
+
+        assertEquals(String.valueOf(VERSIONS), environment.getProperty("VERSION"));
+        for (int i = 1; i < reloadedVersions.size(); i++) {
+            assertTrue(reloadedVersions.get(i - 1) <= reloadedVersions.get(i),
+                    "reload applied version " + reloadedVersions.get(i) + " after " + reloadedVersions.get(i - 1));
+        }
+    }
+
+    private static void write(int version) throws IOException {
+        Path temporary = Files.writeString(DOTENV_PATH.resolveSibling(".env.tmp"), "VERSION=" + version + "\n");
+        Files.move(temporary, DOTENV_PATH, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @TestConfiguration
+    static class ReloadedVersionsConfiguration {
+
+        private final List<Integer> versions = new CopyOnWriteArrayList<>();
+
+        @Bean
+        List<Integer> reloadedVersions() {
+            return versions;
+        }
+
+        @EventListener
+        void onReload(DotenvReloadedEvent event) {
+            versions.add(Integer.valueOf((String) event.getPropertySource().getProperty("VERSION")));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvFiles;
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotenvConfigTreeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldLoadKubernetesStyleMount() throws IOException {
+        // Kubernetes mounts keys as links into a hidden, timestamped directory
+        Path mount = Files.createDirectories(tempDir.resolve("secrets"));
+        Path data = Files.createDirectories(mount.resolve("..2026_10_17_12_00_00.000000001"));
+        Files.writeString(data.resolve("DB_PASSWORD"), "s3cr3t\n");
+        Files.writeString(data.resolve("API_TOKEN"), "multi\nline\r\n");
+        Files.createSymbolicLink(mount.resolve("..data"), data.getFileName());
+        Files.createSymbolicLink(mount.resolve("DB_PASSWORD"), Path.of("..data/DB_PASSWORD"));
+        Files.createSymbolicLink(mount.resolve("API_TOKEN"), Path.of("..data/API_TOKEN"));
+        Files.writeString(Files.createDirectories(mount.resolve("nested")).resolve("KEY"), "nested-value");
+
+        Map<String, Map<String, String>> layers = DotenvFiles.loadConfigTree(mount.toString(), true);
+
+        Map<String, String> merged = new HashMap<>();
+        layers.values().forEach(merged::putAll);
+        assertEquals(Map.of("DB_PASSWORD", "s3cr3t", "API_TOKEN", "multi\nline", "nested.KEY", "nested-value"), merged);
+        assertEquals(Map.of("DB_PASSWORD", "s3cr3t"), layers.get(mount.resolve("DB_PASSWORD").toString()));
+    }
+
+    @Test
+    void shouldOverrideDotenvFileAndKeepFileOrigins() throws IOException {
+        Path dotenv = Files.writeString(tempDir.resolve(".env"), "HOST=localhost\nPORT=8080");
+        Path tree = Files.createDirectories(tempDir.resolve("tree"));
+        for (int i = 0; i < 300; i++) {
+            Files.writeString(tree.resolve("SECRET_" + i), "value-" + i);
+        }
+        Files.writeString(tree.resolve("HOST"), "db.internal");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("dotenv.path", dotenv.toString())
+                .withProperty("dotenv.config-tree", tree.toString());
+
+        DotenvPropertySource propertySource = DotenvPropertySource.fromLayers("dotenv",
+                DotenvLoader.loadLayers(environment, new DotenvParser(), true), false);
+
+        assertEquals("db.internal", propertySource.getProperty("HOST"));
+        assertEquals("8080", propertySource.getProperty("PORT"));
+        assertEquals("value-299", propertySource.getProperty("SECRET_299"));
+        assertEquals(302, propertySource.getPropertyNames().length);
+        TextResourceOrigin origin = (TextResourceOrigin) propertySource.getOrigin("HOST");
+        assertEquals(tree.resolve("HOST").toFile(), origin.getResource().getFile());
+    }
+
+    @Test
+    void shouldHandleMissingDirectory() {
+        String missing = tempDir.resolve("missing").toString();
+
+        assertTrue(DotenvFiles.loadConfigTree(missing, false).isEmpty());
+        assertThrows(DotenvFileNotFoundException.class, () -> DotenvFiles.loadConfigTree(missing, true));
+    }
+}
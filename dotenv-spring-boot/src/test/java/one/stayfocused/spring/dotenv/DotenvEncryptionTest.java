@@ -0,0 +1,114 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvCipher;
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.core.KeyfileDotenvCipher;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.exception.DotenvDecryptionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DotenvEncryptionTest {
+
+    @TempDir
+    Path tempDir;
+
+    private KeyfileDotenvCipher cipher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cipher = new KeyfileDotenvCipher(writeKey("dotenv.key"));
+    }
+
+    @Test
+    void shouldDecryptOnFirstLookupOnly() throws Exception {
+        AtomicInteger decryptions = new AtomicInteger();
+        DotenvCipher counting = cipherText -> {
+            decryptions.incrementAndGet();
+            return cipher.decrypt(cipherText);
+        };
+        String encrypted = "ENC(" + cipher.encrypt("s3cr3t") + ")";
+        DotenvPropertySource propertySource = source(Map.of("DB_PASSWORD", encrypted, "HOST", "localhost"), counting);
+
+        assertEquals(0, decryptions.get());
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Object>> lookups = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return propertySource.getProperty("DB_PASSWORD");
+            }));
+        }
+        start.countDown();
+        for (CompletableFuture<Object> lookup : lookups) {
+            assertEquals("s3cr3t", lookup.get());
+        }
+
+        assertEquals(1, decryptions.get());
+        assertEquals("localhost", propertySource.getProperty("HOST"));
+        assertEquals(encrypted, propertySource.getSource().get("DB_PASSWORD"));
+    }
+
+    @Test
+    void shouldCreateKeyfileCipherFromEnvironment() throws IOException {
+        Path keyfile = tempDir.resolve("dotenv.key");
+        MockEnvironment environment = new MockEnvironment().withProperty("dotenv.keyfile", keyfile.toString());
+
+        DotenvCipher created = DotenvLoader.createCipher(environment, getClass().getClassLoader());
+
+        assertInstanceOf(KeyfileDotenvCipher.class, created);
+        assertEquals("value", created.decrypt(cipher.encrypt("value")));
+        assertNull(DotenvLoader.createCipher(new MockEnvironment(), getClass().getClassLoader()));
+    }
+
+    @Test
+    void shouldFailWithWrongKey() throws IOException {
+        KeyfileDotenvCipher other = new KeyfileDotenvCipher(writeKey("other.key"));
+        DotenvPropertySource propertySource = source(Map.of("TOKEN", "ENC(" + other.encrypt("token") + ")"), cipher);
+
+        assertThrows(DotenvDecryptionException.class, () -> propertySource.getProperty("TOKEN"));
+    }
+
+    @Test
+    void shouldReturnEncryptedValueWithoutCipher() {
+        DotenvPropertySource propertySource = source(Map.of("TOKEN", "ENC(abc)", "EMPTY", "ENC()"), null);
+
+        assertEquals("ENC(abc)", propertySource.getProperty("TOKEN"));
+        assertEquals("ENC()", propertySource.getProperty("EMPTY"));
+    }
+
+    private Path writeKey(String name) throws IOException {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Files.writeString(tempDir.resolve(name), Base64.getEncoder().encodeToString(key) + "\n");
+    }
+
+    private static DotenvPropertySource source(Map<String, String> values, DotenvCipher cipher) {
+        return DotenvPropertySource.fromLayers("dotenv", Map.of(".env", values), false,
+                new DotenvStatistics(false), cipher);
+    }
+}
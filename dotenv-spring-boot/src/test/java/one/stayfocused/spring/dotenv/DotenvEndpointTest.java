@@ -0,0 +1,72 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.actuator.DotenvEndpoint;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "dotenv.path=target/dotenv-endpoint/.env",
+        "management.endpoints.web.exposure.include=dotenv"
+})
+class DotenvEndpointTest {
+
+    private static final Path DOTENV_PATH = Path.of("target/dotenv-endpoint/.env");
+
+    @Autowired
+    private DotenvEndpoint endpoint;
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    @BeforeAll
+    static void createDotenv() throws IOException {
+        Files.createDirectories(DOTENV_PATH.getParent());
+        Files.writeString(DOTENV_PATH, "ENDPOINT_SECRET=s3cr3t\nENDPOINT_HOST=localhost");
+    }
+
+    @AfterAll
+    static void deleteDotenv() throws IOException {
+        Files.deleteIfExists(DOTENV_PATH);
+    }
+
+    @Test
+    void shouldDescribeLoadedVariablesWithMaskedValues() {
+        DotenvEndpoint.DotenvDescriptor descriptor = endpoint.dotenv();
+
+        assertEquals(List.of("target/dotenv-endpoint/.env"), descriptor.getLocations());
+        assertEquals(descriptor.getVariables().size(), descriptor.getEntries());
+        assertEquals("******", descriptor.getVariables().get("ENDPOINT_SECRET"));
+        assertTrue(descriptor.getVariables().values().stream().noneMatch("s3cr3t"::equals));
+        assertTrue(descriptor.getTimings().getLoads() >= 1);
+        assertEquals(descriptor.getTimings().getLoads(), descriptor.getTimings().getParses());
+        assertTrue(descriptor.getRetainedBytes() > 0);
+    }
+
+    @Test
+    void shouldReloadAndSwapPropertySource() throws IOException {
+        DotenvPropertySource before = (DotenvPropertySource) environment.getPropertySources().get(PROPERTY_SOURCE_NAME);
+        Files.writeString(DOTENV_PATH, "ENDPOINT_SECRET=s3cr3t\nENDPOINT_HOST=remote\nENDPOINT_ADDED=yes");
+
+        DotenvEndpoint.ReloadDescriptor result = endpoint.reload();
+
+        assertEquals(List.of("ENDPOINT_ADDED", "ENDPOINT_HOST"), result.getChangedKeys());
+        assertEquals(3, result.getEntries());
+        assertEquals("remote", environment.getProperty("ENDPOINT_HOST"));
+        assertNotSame(before, environment.getPropertySources().get(PROPERTY_SOURCE_NAME));
+    }
+}
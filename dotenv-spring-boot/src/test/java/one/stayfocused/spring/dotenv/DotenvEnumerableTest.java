@@ -0,0 +1,65 @@
+package one.stayfocused.spring.dotenv;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "dotenv.path=src/test/.env.enumerable")
+class DotenvEnumerableTest {
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    private static final Path DOTENV_PATH = Path.of("src/test/.env.enumerable");
+    private static final List<String> CONTENT = List.of(
+            "app.labels.first=one",
+            "app.labels.second=two",
+            "app.hosts[0]=alpha",
+            "app.hosts[1]=beta");
+
+    @BeforeAll
+    static void createDotenv() throws IOException {
+        Files.write(DOTENV_PATH, CONTENT);
+    }
+
+    @AfterAll
+    static void deleteDotenv() throws IOException {
+        Files.deleteIfExists(DOTENV_PATH);
+    }
+
+    @Test
+    void shouldExposeDotenvAsEnumerablePropertySource() {
+        assertThat(environment.getPropertySources().get(PROPERTY_SOURCE_NAME))
+                .isInstanceOfSatisfying(EnumerablePropertySource.class, source -> {
+                    assertThat(source.getPropertyNames()).containsExactlyInAnyOrder(
+                            "app.labels.first", "app.labels.second", "app.hosts[0]", "app.hosts[1]");
+                    assertThat(source.containsProperty("app.labels.first")).isTrue();
+                    assertThat(source.containsProperty("app.labels.third")).isFalse();
+                });
+    }
+
+    @Test
+    void shouldBindMapsAndListsFromDotenv() {
+        Binder binder = Binder.get(environment);
+
+        assertThat(binder.bind("app.labels", Bindable.mapOf(String.class, String.class)).get())
+                .isEqualTo(Map.of("first", "one", "second", "two"));
+        assertThat(binder.bind("app.hosts", Bindable.listOf(String.class)).get())
+                .containsExactly("alpha", "beta");
+    }
+}
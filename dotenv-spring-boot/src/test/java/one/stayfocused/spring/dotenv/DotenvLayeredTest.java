@@ -0,0 +1,65 @@
+package one.stayfocused.spring.dotenv;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.profiles.active=staging",
+        "dotenv.path=target/dotenv-layered/.env, target/dotenv-layered/.env.shared",
+        "dotenv.layered=true"
+})
+class DotenvLayeredTest {
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    private static final Path DOTENV_DIRECTORY = Path.of("target/dotenv-layered");
+
+    @BeforeAll
+    static void createDotenvFiles() throws IOException {
+        Files.createDirectories(DOTENV_DIRECTORY);
+        Files.writeString(DOTENV_DIRECTORY.resolve(".env"), "BASE=base\nSHARED=base\nLOCAL=base\nPROFILE=base\nPROFILE_LOCAL=base");
+        Files.writeString(DOTENV_DIRECTORY.resolve(".env.shared"), "SHARED=shared\nLOCAL=shared");
+        Files.writeString(DOTENV_DIRECTORY.resolve(".env.local"), "LOCAL=local\nPROFILE=local");
+        Files.writeString(DOTENV_DIRECTORY.resolve(".env.staging"), "PROFILE=staging\nPROFILE_LOCAL=staging");
+        Files.writeString(DOTENV_DIRECTORY.resolve(".env.staging.local"), "PROFILE_LOCAL=staging-local");
+        Files.writeString(DOTENV_DIRECTORY.resolve(".env.prod"), "PROFILE=prod");
+    }
+
+    @AfterAll
+    static void deleteDotenvFiles() throws IOException {
+        FileSystemUtils.deleteRecursively(DOTENV_DIRECTORY);
+    }
+
+    @Test
+    void shouldMergeLayersWithIncreasingPrecedence() {
+        assertEquals("base", environment.getProperty("BASE"));
+        assertEquals("shared", environment.getProperty("SHARED"));
+        assertEquals("local", environment.getProperty("LOCAL"));
+        assertEquals("staging", environment.getProperty("PROFILE"));
+        assertEquals("staging-local", environment.getProperty("PROFILE_LOCAL"));
+    }
+
+    @Test
+    void shouldReportFileOfEachVariableAsOrigin() {
+        OriginLookup<String> origins = OriginLookup.class.cast(environment.getPropertySources().get(PROPERTY_SOURCE_NAME));
+
+        assertTrue(origins.getOrigin("BASE").toString().endsWith(".env]"));
+        assertTrue(origins.getOrigin("LOCAL").toString().endsWith(".env.local]"));
+        assertTrue(origins.getOrigin("PROFILE_LOCAL").toString().endsWith(".env.staging.local]"));
+    }
+}
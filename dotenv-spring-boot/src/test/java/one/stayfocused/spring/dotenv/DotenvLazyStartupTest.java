@@ -0,0 +1,29 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.environment.LazyDotenvPropertySource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"dotenv.lazy=true", "management.endpoints.web.exposure.include=dotenv"})
+class DotenvLazyStartupTest extends DotenvTestBase {
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    @Test
+    void shouldNotLoadDuringStartup() {
+        LazyDotenvPropertySource placeholder = assertInstanceOf(LazyDotenvPropertySource.class,
+                environment.getPropertySources().get("dotenv"));
+        assertFalse(placeholder.isLoaded());
+
+        assertEquals("BeforeReload", environment.getProperty("TEST_ENV_VAR"));
+        assertTrue(placeholder.isLoaded());
+    }
+}
@@ -0,0 +1,127 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.environment.DotenvEnvironmentPostProcessor;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.environment.LazyDotenvPropertySource;
+import one.stayfocused.spring.dotenv.exception.DotenvFileNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.env.MockPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DotenvLazyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldNotLoadWhileLookupsAreAnsweredElsewhere() throws IOException {
+        StandardEnvironment environment = environment(Files.writeString(tempDir.resolve(".env"), "APP_NAME=dotenv"));
+
+        assertEquals("configured", environment.getProperty("APP_NAME"));
+        assertNull(environment.getProperty("spring.main.banner-mode"));
+        assertNull(environment.getProperty("logging.level.root"));
+
+        LazyDotenvPropertySource placeholder = assertInstanceOf(LazyDotenvPropertySource.class,
+                environment.getPropertySources().get("dotenv"));
+        assertFalse(placeholder.isLoaded());
+        assertEquals(0, placeholder.getStatistics().getLoadCount());
+    }
+
+    @Test
+    void shouldLoadOnceOnFirstFallThroughAndReplacePlaceholder() throws Exception {
+        StandardEnvironment environment = environment(Files.writeString(tempDir.resolve(".env"), "LAZY_VAR=loaded"));
+        LazyDotenvPropertySource placeholder = (LazyDotenvPropertySource) environment.getPropertySources().get("dotenv");
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> lookups = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return environment.getProperty("LAZY_VAR");
+            }));
+        }
+        start.countDown();
+
+        for (CompletableFuture<String> lookup : lookups) {
+            assertEquals("loaded", lookup.get());
+        }
+        assertEquals(1, placeholder.getStatistics().getLoadCount());
+        DotenvPropertySource loaded = assertInstanceOf(DotenvPropertySource.class,
+                environment.getPropertySources().get("dotenv"));
+        assertSame(loaded, placeholder.getPropertySource());
+        assertSame(placeholder.getStatistics(), loaded.getStatistics());
+        assertEquals("loaded", placeholder.getProperty("LAZY_VAR"));
+    }
+
+    @Test
+    void shouldIgnoreFrameworkSettingsBeforeAndAfterLoading() throws IOException {
+        StandardEnvironment environment = environment(Files.writeString(tempDir.resolve(".env"),
+                "server.port=9090\nSERVER_ADDRESS=0.0.0.0\nLAZY_VAR=loaded"));
+        environment.getPropertySources().addFirst(new MockPropertySource("aliases")
+                .withProperty("dotenv.relaxed-aliases", "true"));
+
+        assertNull(environment.getProperty("server.port"));
+        assertEquals("loaded", environment.getProperty("LAZY_VAR"));
+        assertNull(environment.getProperty("server.port"));
+        assertNull(environment.getProperty("server.address"));
+
+        DotenvPropertySource loaded = assertInstanceOf(DotenvPropertySource.class,
+                environment.getPropertySources().get("dotenv"));
+        assertFalse(loaded.containsProperty("server.port"));
+        assertFalse(loaded.containsProperty("SERVER_ADDRESS"));
+    }
+
+    @Test
+    void shouldReportLoadFailureOnFirstLookup() {
+        StandardEnvironment environment = environment(tempDir.resolve("missing.env"));
+        environment.getPropertySources().addFirst(new MockPropertySource("fail")
+                .withProperty("dotenv.fail-on-missing", "true"));
+
+        assertThrows(DotenvFileNotFoundException.class, () -> environment.getProperty("LAZY_VAR"));
+        assertInstanceOf(LazyDotenvPropertySource.class, environment.getPropertySources().get("dotenv"));
+    }
+
+    @Test
+    void shouldLoadEagerlyWhenReloadable() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MockPropertySource()
+                .withProperty("dotenv.path", Files.writeString(tempDir.resolve(".env"), "LAZY_VAR=loaded").toString())
+                .withProperty("dotenv.lazy", "true")
+                .withProperty("dotenv.reload", "true"));
+
+        new DotenvEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertInstanceOf(DotenvPropertySource.class, environment.getPropertySources().get("dotenv"));
+    }
+
+    private static StandardEnvironment environment(Path dotenv) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MockPropertySource()
+                .withProperty("dotenv.path", dotenv.toString())
+                .withProperty("dotenv.lazy", "true")
+                .withProperty("APP_NAME", "configured"));
+        new DotenvEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+        return environment;
+    }
+}
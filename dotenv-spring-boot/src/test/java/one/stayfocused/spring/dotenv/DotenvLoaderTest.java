@@ -0,0 +1,28 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.DotenvLoader;
+import one.stayfocused.spring.dotenv.core.SharedCacheEnvParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DotenvLoaderTest {
+
+    @Test
+    void shouldNotShareParsedFilesByDefault() {
+        MockEnvironment environment = new MockEnvironment();
+
+        assertThat(DotenvLoader.createParser(environment)).isNotInstanceOf(SharedCacheEnvParser.class);
+    }
+
+    @Test
+    void shouldNeverShareParsedFilesOnReload() {
+        MockEnvironment environment = new MockEnvironment().withProperty("dotenv.shared-cache", "true");
+
+        assertThat(DotenvLoader.createParser(environment)).isInstanceOf(SharedCacheEnvParser.class);
+        assertThat(DotenvLoader.createReloadParser(environment, null)).isNotInstanceOf(SharedCacheEnvParser.class);
+        environment.setProperty("dotenv.incremental-reload", "false");
+        assertThat(DotenvLoader.createReloadParser(environment, null)).isNotInstanceOf(SharedCacheEnvParser.class);
+    }
+}
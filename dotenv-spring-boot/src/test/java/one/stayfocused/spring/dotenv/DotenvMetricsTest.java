@@ -0,0 +1,88 @@
+package one.stayfocused.spring.dotenv;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import one.stayfocused.spring.dotenv.metrics.DotenvMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static one.stayfocused.spring.dotenv.core.DotenvUtils.PROPERTY_SOURCE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DotenvMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldExportLoadAndLookupMetrics() throws IOException {
+        Path file = Files.writeString(tempDir.resolve(".env"), "# comment\nDB_HOST=localhost\n\nDB_PORT=5432\n");
+        DotenvStatistics statistics = new DotenvStatistics(true);
+        Map<String, String> variables = new DotenvParser(statistics).parse(file);
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(DotenvPropertySource.fromLayers(
+                PROPERTY_SOURCE_NAME, Map.of(file.toString(), variables), false, statistics));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new DotenvMetrics(environment).bindTo(registry);
+
+        environment.getProperty("DB_HOST");
+        environment.getProperty("DB_HOST");
+        environment.getProperty("java.version");
+
+        assertEquals(1, registry.get("dotenv.read").functionTimer().count());
+        assertEquals(1, registry.get("dotenv.parse").functionTimer().count());
+        assertEquals(Files.size(file), registry.get("dotenv.read.bytes").functionCounter().count());
+        assertEquals(4, registry.get("dotenv.parse.lines").functionCounter().count());
+        assertEquals(2, registry.get("dotenv.entries").gauge().value());
+        assertEquals(2, registry.get("dotenv.lookups").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("dotenv.lookups").tag("result", "miss").functionCounter().count());
+        assertEquals(2, registry.get("dotenv.lookups.key").tag("key", "DB_HOST").functionCounter().count());
+        assertEquals(0, registry.get("dotenv.lookups.key").tag("key", "DB_PORT").functionCounter().count());
+    }
+
+    @Test
+    void shouldNotTallyKeysByDefault() {
+        DotenvStatistics statistics = new DotenvStatistics(false);
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(DotenvPropertySource.fromLayers(
+                PROPERTY_SOURCE_NAME, Map.of(".env", Map.of("KEY", "value")), false, statistics));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new DotenvMetrics(environment).bindTo(registry);
+
+        environment.getProperty("KEY");
+
+        FunctionTimer read = registry.get("dotenv.read").functionTimer();
+        assertEquals(0, read.count());
+        assertEquals(1, statistics.getHits());
+        assertEquals(0, statistics.getHits("KEY"));
+        assertNull(registry.find("dotenv.lookups.key").meter());
+    }
+
+    @Test
+    void shouldNotRegisterMetersForRelaxedAliases() {
+        DotenvStatistics statistics = new DotenvStatistics(true);
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(DotenvPropertySource.fromLayers(PROPERTY_SOURCE_NAME,
+                Map.of(".env", Map.of("SERVER_PORT", "8080")), false, statistics, null, true));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new DotenvMetrics(environment).bindTo(registry);
+
+        environment.getProperty("server.port");
+
+        assertEquals(1, registry.find("dotenv.lookups.key").meters().size());
+        assertEquals(1, registry.get("dotenv.lookups.key").tag("key", "SERVER_PORT").functionCounter().count());
+        assertNull(registry.find("dotenv.lookups.key").tag("key", "server.port").meter());
+    }
+}
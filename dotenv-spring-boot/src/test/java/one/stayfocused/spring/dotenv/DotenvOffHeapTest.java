@@ -0,0 +1,135 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.core.CompactStringMap;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.core.DotenvValueStorage;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotenvOffHeapTest {
+
+    @Test
+    void shouldMaterializeValuesOnRead() {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("HOST", "localhost");
+        source.put("GREETING", "héllo wörld ✓");
+        source.put("EMPTY", "");
+
+        CompactStringMap values = CompactStringMap.offHeapCopyOf(source);
+
+        assertTrue(values.isOffHeap());
+        assertEquals(source, values);
+        assertEquals("héllo wörld ✓", values.get("GREETING"));
+        assertNotSame(values.get("HOST"), values.get("HOST"));
+        assertTrue(values.valueEquals(values.indexOf("GREETING"), "héllo wörld ✓"));
+        assertFalse(values.valueEquals(values.indexOf("HOST"), "localhost2"));
+        assertEquals("héllo wörld ✓".hashCode(), values.valueHashCode(values.indexOf("GREETING")));
+        assertEquals(2L * "localhosthéllo wörld ✓".length(), values.offHeapBytes());
+    }
+
+    @Test
+    void shouldRetainLessHeapThanOnHeapValues() {
+        Map<String, String> source = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            source.put("SECRET_" + i, "x".repeat(256));
+        }
+
+        CompactStringMap onHeap = CompactStringMap.copyOf(source);
+        CompactStringMap offHeap = CompactStringMap.offHeapCopyOf(source);
+
+        assertEquals(0, onHeap.offHeapBytes());
+        assertTrue(offHeap.estimateRetainedBytes() < onHeap.estimateRetainedBytes() / 4);
+    }
+
+    @Test
+    void shouldZeroPreviousValuesOnReload() {
+        DotenvPropertySource propertySource = source(Map.of("DB_PASSWORD", "s3cr3t"),
+                DotenvValueStorage.OFF_HEAP_ZEROED);
+        CompactStringMap previous = (CompactStringMap) propertySource.getSource();
+
+        propertySource.updateLayers(Map.of("/app/.env", Map.of("DB_PASSWORD", "n3w")));
+
+        assertEquals("n3w", propertySource.getProperty("DB_PASSWORD"));
+        assertTrue(previous.containsKey("DB_PASSWORD"));
+        assertThrows(IllegalStateException.class, () -> previous.get("DB_PASSWORD"));
+    }
+
+    @Test
+    void shouldZeroValuesOnReleaseOnlyWhenConfigured() {
+        DotenvPropertySource kept = source(Map.of("DB_PASSWORD", "s3cr3t"), DotenvValueStorage.OFF_HEAP);
+        DotenvPropertySource zeroed = source(Map.of("DB_PASSWORD", "s3cr3t"), DotenvValueStorage.OFF_HEAP_ZEROED);
+
+        kept.release();
+        zeroed.release();
+
+        assertEquals("s3cr3t", kept.getProperty("DB_PASSWORD"));
+        assertThrows(IllegalStateException.class, () -> zeroed.getProperty("DB_PASSWORD"));
+        assertTrue(zeroed.containsProperty("DB_PASSWORD"));
+    }
+
+    @Test
+    void shouldParseValueStorage() {
+        assertEquals(DotenvValueStorage.OFF_HEAP, DotenvValueStorage.of("off-heap"));
+        assertEquals(DotenvValueStorage.OFF_HEAP_ZEROED, DotenvValueStorage.of(" OFF_HEAP_ZEROED "));
+        assertFalse(DotenvValueStorage.of("heap").isOffHeap());
+        assertThrows(IllegalArgumentException.class, () -> DotenvValueStorage.of("disk"));
+    }
+
+    @Test
+    void shouldReadCompleteValuesWhileReloading() throws Exception {
+        String first = "a".repeat(4096);
+        String second = "b".repeat(4096);
+        DotenvPropertySource propertySource = source(Map.of("SECRET", first), DotenvValueStorage.OFF_HEAP_ZEROED);
+        List<CompactStringMap> replaced = new ArrayList<>();
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> lookups = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                lookups.add(readers.submit(() -> {
+                    int count = 0;
+                    while (reloading.get()) {
+                        Object value = propertySource.getProperty("SECRET");
+                        assertTrue(first.equals(value) || second.equals(value), "Partially zeroed value");
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            for (int i = 0; i < 2000; i++) {
+                replaced.add((CompactStringMap) propertySource.getSource());
+                propertySource.update(Map.of("SECRET", i % 2 == 0 ? second : first));
+            }
+            reloading.set(false);
+            for (Future<Integer> lookup : lookups) {
+                assertTrue(lookup.get() > 0);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        for (CompactStringMap previous : replaced) {
+            assertThrows(IllegalStateException.class, () -> previous.get("SECRET"));
+        }
+    }
+
+    private static DotenvPropertySource source(Map<String, String> values, DotenvValueStorage valueStorage) {
+        return DotenvPropertySource.fromLayers("dotenv", Map.of("/app/.env", values), true,
+                new DotenvStatistics(false), null, false, valueStorage);
+    }
+}
@@ -0,0 +1,128 @@
+package one.stayfocused.spring.dotenv;
+
+import lombok.Getter;
+import lombok.Setter;
+import one.stayfocused.spring.dotenv.core.DotenvDiff;
+import one.stayfocused.spring.dotenv.core.DotenvParser;
+import one.stayfocused.spring.dotenv.reload.DotenvConfigurationPropertiesRebinder;
+import one.stayfocused.spring.dotenv.reload.DotenvReloader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"dotenv.path=target/dotenv-rebind/.env", "management.endpoints.web.exposure.include=dotenv"})
+class DotenvRebindTest {
+
+    private static final Path DOTENV_PATH = Path.of("target/dotenv-rebind/.env");
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MailProperties mailProperties;
+
+    @Autowired
+    private CacheProperties cacheProperties;
+
+    @Autowired
+    private DotenvConfigurationPropertiesRebinder rebinder;
+
+    @BeforeAll
+    static void createDotenv() throws IOException {
+        Files.createDirectories(DOTENV_PATH.getParent());
+        Files.writeString(DOTENV_PATH, "app.mail.host=smtp.old\napp.mail.port=25\napp.cache.size=10");
+    }
+
+    @AfterAll
+    static void deleteDotenv() throws IOException {
+        Files.deleteIfExists(DOTENV_PATH);
+    }
+
+    @Test
+    void shouldRebindOnlyAffectedBeans() throws IOException {
+        assertEquals("smtp.old", mailProperties.getHost());
+        int cacheBindings = cacheProperties.getBindings();
+
+        Files.writeString(DOTENV_PATH, "app.mail.host=smtp.new\napp.cache.size=10");
+        Set<String> changedKeys = new DotenvReloader(environment, applicationContext, new DotenvParser()).reload();
+
+        assertEquals(Set.of("app.mail.host", "app.mail.port"), changedKeys);
+        assertEquals("smtp.new", mailProperties.getHost());
+        // Binding onto the existing instance leaves fields of removed keys untouched
+        assertEquals(25, mailProperties.getPort());
+        assertEquals(cacheBindings, cacheProperties.getBindings());
+        assertEquals(10, cacheProperties.getSize());
+    }
+
+    @Test
+    void shouldMapEnvironmentStyleKeysToPrefixes() {
+        Set<String> rebound = rebinder.rebind(List.of("APP_CACHE_SIZE", "UNRELATED"));
+
+        assertEquals(1, rebound.size());
+        assertTrue(rebound.iterator().next().contains("app.cache"));
+    }
+
+    @Test
+    void shouldClassifyKeys() {
+        DotenvDiff diff = DotenvDiff.between(
+                Map.of("KEPT", "same", "CHANGED", "old", "REMOVED", "gone"),
+                Map.of("KEPT", "same", "CHANGED", "new", "ADDED", "here"));
+
+        assertEquals(Set.of("ADDED"), diff.getAdded());
+        assertEquals(Set.of("REMOVED"), diff.getRemoved());
+        assertEquals(Set.of("CHANGED"), diff.getChanged());
+        assertEquals(Set.of("ADDED", "REMOVED", "CHANGED"), diff.getKeys());
+        assertTrue(DotenvDiff.between(Map.of("KEPT", "same"), Map.of("KEPT", "same")).isEmpty());
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties({MailProperties.class, CacheProperties.class})
+    static class RebindConfiguration {
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties("app.mail")
+    static class MailProperties {
+
+        private String host;
+
+        private int port;
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties("app.cache")
+    static class CacheProperties implements InitializingBean {
+
+        private int size;
+
+        private int bindings;
+
+        @Override
+        public void afterPropertiesSet() {
+            bindings++;
+        }
+    }
+}
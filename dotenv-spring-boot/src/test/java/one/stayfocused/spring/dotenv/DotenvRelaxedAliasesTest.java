@@ -0,0 +1,86 @@
+package one.stayfocused.spring.dotenv;
+
+import lombok.Getter;
+import lombok.Setter;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotenvRelaxedAliasesTest {
+
+    private static final Map<String, String> VARIABLES = Map.of(
+            "SPRING_DATASOURCE_URL", "jdbc:h2:mem:test",
+            "APP_CACHE_MAXSIZE", "500",
+            "APP_CACHE_NAMES_0", "users",
+            "APP_CACHE_NAMES_1", "orders",
+            "APP_GREETING", "from env style",
+            "app.greeting", "from dotted",
+            "lower_case", "ignored");
+
+    @Test
+    void shouldFindEnvironmentStyleKeysByCanonicalName() {
+        DotenvPropertySource propertySource = source(true);
+
+        assertEquals("jdbc:h2:mem:test", propertySource.getProperty("SPRING_DATASOURCE_URL"));
+        assertEquals("jdbc:h2:mem:test", propertySource.getProperty("spring.datasource.url"));
+        assertEquals("500", propertySource.getProperty("app.cache.max-size"));
+        assertEquals("500", propertySource.getProperty("App.Cache.MaxSize"));
+        assertEquals("users", propertySource.getProperty("app.cache.names[0]"));
+        assertEquals("from dotted", propertySource.getProperty("app.greeting"));
+        assertNull(propertySource.getProperty("lower.case"));
+        assertTrue(propertySource.containsProperty("spring.datasource.url"));
+        assertThat(propertySource.getPropertyNames())
+                .contains("spring.datasource.url", "app.cache.maxsize", "app.cache.names[1]", "SPRING_DATASOURCE_URL")
+                .doesNotHaveDuplicates();
+        assertEquals(VARIABLES, propertySource.getSource());
+    }
+
+    @Test
+    void shouldBindConfigurationPropertiesFromEnvironmentStyleKeys() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(source(true));
+        ConfigurationPropertySources.attach(environment);
+
+        CacheProperties cache = Binder.get(environment).bind("app.cache", Bindable.of(CacheProperties.class)).get();
+
+        assertEquals(500, cache.getMaxSize());
+        assertEquals(List.of("users", "orders"), cache.getNames());
+        assertEquals("jdbc:h2:mem:test", environment.getProperty("spring.datasource.url"));
+    }
+
+    @Test
+    void shouldKeepExactNamesOnlyByDefault() {
+        DotenvPropertySource propertySource = source(false);
+
+        assertNull(propertySource.getProperty("spring.datasource.url"));
+        assertFalse(propertySource.containsProperty("app.cache.max-size"));
+        assertEquals(VARIABLES.size(), propertySource.getPropertyNames().length);
+    }
+
+    private static DotenvPropertySource source(boolean relaxedAliases) {
+        return DotenvPropertySource.fromLayers("dotenv", Map.of(".env", VARIABLES), false,
+                new DotenvStatistics(false), null, relaxedAliases);
+    }
+
+    @Getter
+    @Setter
+    static class CacheProperties {
+
+        private int maxSize;
+
+        private List<String> names;
+    }
+}
@@ -0,0 +1,108 @@
+package one.stayfocused.spring.dotenv;
+
+import one.stayfocused.spring.dotenv.reload.DotenvReloadedEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "dotenv.path=target/dotenv-reload/.env",
+        "dotenv.reload=true",
+        "dotenv.reload-debounce=50ms"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DotenvReloadTest {
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
+    @Autowired
+    private List<DotenvReloadedEvent> reloadEvents;
+
+    private static final Path DOTENV_PATH = Path.of("target/dotenv-reload/.env");
+
+    @BeforeAll
+    static void createDotenv() throws IOException {
+        Files.createDirectories(DOTENV_PATH.getParent());
+        Files.writeString(DOTENV_PATH, "RELOAD_VAR=before\nREMOVED_VAR=gone\nSTABLE_VAR=same");
+    }
+
+    @AfterAll
+    static void deleteDotenv() throws IOException {
+        Files.deleteIfExists(DOTENV_PATH);
+    }
+
+    @Test
+    @Order(1)
+    void shouldReloadChangedDotenvAndPublishChangedKeys() throws Exception {
+        assertEquals("before", environment.getProperty("RELOAD_VAR"));
+
+        Files.writeString(DOTENV_PATH, "RELOAD_VAR=after\nADDED_VAR=new\nSTABLE_VAR=same");
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (reloadEvents.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals("after", environment.getProperty("RELOAD_VAR"));
+        assertEquals("new", environment.getProperty("ADDED_VAR"));
+        assertEquals(null, environment.getProperty("REMOVED_VAR"));
+        assertTrue(reloadEvents.stream().anyMatch(event ->
+                event.getChangedKeys().equals(Set.of("RELOAD_VAR", "ADDED_VAR", "REMOVED_VAR"))));
+    }
+
+    @Test
+    @Order(2)
+    void shouldKeepWatchingAfterFailedReload() throws Exception {
+        // Reloading without a registered dotenv property source fails with an IllegalStateException
+        PropertySource<?> propertySource = environment.getPropertySources().remove("dotenv");
+        Files.writeString(DOTENV_PATH, "RELOAD_VAR=failing\nSTABLE_VAR=same");
+        Thread.sleep(1_000);
+        environment.getPropertySources().addLast(propertySource);
+
+        int reloads = reloadEvents.size();
+        Files.writeString(DOTENV_PATH, "RELOAD_VAR=recovered\nSTABLE_VAR=same");
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (reloadEvents.size() == reloads && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals("recovered", environment.getProperty("RELOAD_VAR"));
+    }
+
+    @TestConfiguration
+    static class ReloadEventsConfiguration {
+
+        private final List<DotenvReloadedEvent> events = new CopyOnWriteArrayList<>();
+
+        @Bean
+        List<DotenvReloadedEvent> reloadEvents() {
+            return events;
+        }
+
+        @EventListener
+        void onReload(DotenvReloadedEvent event) {
+            events.add(event);
+        }
+    }
+}
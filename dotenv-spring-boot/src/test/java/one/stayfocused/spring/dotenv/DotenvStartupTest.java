@@ -0,0 +1,93 @@
+package one.stayfocused.spring.dotenv;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import one.stayfocused.spring.dotenv.core.DotenvStatistics;
+import one.stayfocused.spring.dotenv.environment.DotenvEnvironmentPostProcessor;
+import one.stayfocused.spring.dotenv.environment.DotenvPropertySource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.mock.env.MockPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotenvStartupTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordStartupSteps() throws IOException {
+        Path dotenv = Files.writeString(tempDir.resolve(".env"), "STEP_VAR=value\nOTHER_VAR=other");
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(16);
+        SpringApplication application = new SpringApplication();
+        application.setApplicationStartup(applicationStartup);
+
+        new DotenvEnvironmentPostProcessor().postProcessEnvironment(environment(dotenv), application);
+
+        List<StartupTimeline.TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents();
+        assertThat(events).extracting(event -> event.getStartupStep().getName())
+                .containsExactly("dotenv.settings", "dotenv.load", "dotenv.register");
+        Map<String, String> loadTags = tags(events.get(1).getStartupStep());
+        assertEquals(dotenv.toString(), loadTags.get("files"));
+        assertTrue(Long.parseLong(loadTags.get("read.bytes")) > 0);
+        assertEquals("2", tags(events.get(2).getStartupStep()).get("variables"));
+    }
+
+    @Test
+    void shouldEmitJfrEvents() throws IOException {
+        Path dotenv = Files.writeString(tempDir.resolve(".env"), "JFR_VAR=value");
+        Path dump = tempDir.resolve("dotenv.jfr");
+        DotenvPropertySource encrypted = DotenvPropertySource.fromLayers("dotenv",
+                Map.of(".env", Map.of("SECRET", "ENC(terces)")), false, new DotenvStatistics(false),
+                cipherText -> new StringBuilder(cipherText).reverse().toString());
+
+        try (Recording recording = new Recording()) {
+            recording.enable("one.stayfocused.dotenv.Load");
+            recording.enable("one.stayfocused.dotenv.SlowLookup").withThreshold(Duration.ZERO);
+            recording.start();
+            new DotenvEnvironmentPostProcessor().postProcessEnvironment(environment(dotenv), new SpringApplication());
+            assertEquals("secret", encrypted.getProperty("SECRET"));
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        RecordedEvent load = events.stream()
+                .filter(event -> event.getEventType().getName().equals("one.stayfocused.dotenv.Load"))
+                .findFirst().orElseThrow();
+        assertEquals(dotenv.toString(), load.getString("files"));
+        assertEquals(1, load.getInt("variables"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName()
+                .equals("one.stayfocused.dotenv.SlowLookup") && "SECRET".equals(event.getString("key"))));
+    }
+
+    private static StandardEnvironment environment(Path dotenv) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MockPropertySource()
+                .withProperty("dotenv.path", dotenv.toString()));
+        return environment;
+    }
+
+    private static Map<String, String> tags(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .collect(Collectors.toMap(StartupStep.Tag::getKey, StartupStep.Tag::getValue));
+    }
+}
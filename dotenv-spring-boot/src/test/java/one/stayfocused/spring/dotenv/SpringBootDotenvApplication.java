@@ -4,10 +4,10 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 /**
- * Main application class for the Spring Boot Dotenv library.
+ * Application class for testing the Spring Boot Dotenv library.
  * <p>
  * This class serves as the entry point for running a Spring Boot application
- * with Dotenv support enabled. It is primarily used for testing and demonstration purposes.
+ * with Dotenv support enabled. It lives with the tests so that it is not packaged with the library.
  * </p>
  */
 @SpringBootApplication